@@ -0,0 +1,60 @@
+package com.customers.customermanagement.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared tier kept in this JVM. Instances are registered per cluster name, so several application
+ * contexts started in one process share the same tier as separate replicas would share a remote cache.
+ * A tier is dropped from the registry once every context using it has closed it.
+ */
+public class InMemorySharedCustomerCache implements SharedCustomerCache {
+
+    private static final Map<String, InMemorySharedCustomerCache> CLUSTERS = new ConcurrentHashMap<>();
+
+    private final VersionedCustomerMap entries;
+    private String clusterName;
+    private int references;
+
+    public InMemorySharedCustomerCache(int maxSize) {
+        this(maxSize, VersionedCustomerMap.DEFAULT_TTL, VersionedCustomerMap.DEFAULT_MARKER_RETENTION, Clock.systemUTC());
+    }
+
+    public InMemorySharedCustomerCache(int maxSize, Duration ttl, Duration markerRetention, Clock clock) {
+        this.entries = new VersionedCustomerMap(maxSize, ttl, markerRetention, clock);
+    }
+
+    public static InMemorySharedCustomerCache forCluster(String clusterName, int maxSize, Duration ttl, Duration markerRetention) {
+        return CLUSTERS.compute(clusterName, (name, cluster) -> {
+            InMemorySharedCustomerCache cache = cluster != null ? cluster : new InMemorySharedCustomerCache(maxSize, ttl, markerRetention, Clock.systemUTC());
+            cache.clusterName = name;
+            cache.references++;
+            return cache;
+        });
+    }
+
+    // Releases this context's reference to a registered tier
+    public void close() {
+        if (clusterName != null) {
+            CLUSTERS.computeIfPresent(clusterName, (name, cluster) -> cluster == this && --references == 0 ? null : cluster);
+        }
+    }
+
+    @Override
+    public VersionedCustomer get(UUID id) {
+        return entries.get(id);
+    }
+
+    @Override
+    public void put(VersionedCustomer customer) {
+        entries.put(customer);
+    }
+
+    @Override
+    public void invalidate(UUID id, long version) {
+        entries.invalidate(id, version);
+    }
+}
@@ -0,0 +1,46 @@
+package com.customers.customermanagement.cache;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+
+import java.util.UUID;
+
+/**
+ * Broadcast after a customer changes. Caches drop any copy of the customer older than {@code version};
+ * a deleted customer is invalidated with {@link Long#MAX_VALUE}. Creates and updates also carry the
+ * new state, which read-only snapshot nodes apply as a delta.
+ */
+public class InvalidationMessage {
+
+    private final UUID originNodeId;
+    private final UUID customerId;
+    private final long version;
+    private final CustomerDTO customer;
+
+    public InvalidationMessage(UUID originNodeId, UUID customerId, long version) {
+        this(originNodeId, customerId, version, null);
+    }
+
+    public InvalidationMessage(UUID originNodeId, UUID customerId, long version, CustomerDTO customer) {
+        this.originNodeId = originNodeId;
+        this.customerId = customerId;
+        this.version = version;
+        this.customer = customer;
+    }
+
+    public UUID getOriginNodeId() {
+        return originNodeId;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // Null for deletes
+    public CustomerDTO getCustomer() {
+        return customer;
+    }
+}
@@ -0,0 +1,17 @@
+package com.customers.customermanagement.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation messages between replicas. Implementations may deliver messages late or out
+ * of order, the version stamps let receivers discard stale ones.
+ */
+public interface InvalidationTransport {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> listener);
+
+    // Called when the subscriber's application context closes
+    void unsubscribe(Consumer<InvalidationMessage> listener);
+}
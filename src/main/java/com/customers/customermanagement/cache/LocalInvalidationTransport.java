@@ -0,0 +1,59 @@
+package com.customers.customermanagement.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport delivering each message synchronously to every subscriber on the same channel.
+ * Used for single-instance deployments and to run several application instances against each other
+ * on one machine. A channel is dropped from the registry once every context using it has closed it.
+ */
+public class LocalInvalidationTransport implements InvalidationTransport {
+
+    private static final Map<String, LocalInvalidationTransport> CHANNELS = new ConcurrentHashMap<>();
+
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final String channelName;
+    private int references;
+
+    public LocalInvalidationTransport() {
+        this(null);
+    }
+
+    private LocalInvalidationTransport(String channelName) {
+        this.channelName = channelName;
+    }
+
+    public static LocalInvalidationTransport forChannel(String channelName) {
+        return CHANNELS.compute(channelName, (name, channel) -> {
+            LocalInvalidationTransport transport = channel != null ? channel : new LocalInvalidationTransport(name);
+            transport.references++;
+            return transport;
+        });
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unsubscribe(Consumer<InvalidationMessage> listener) {
+        listeners.remove(listener);
+    }
+
+    // Releases this context's reference to a registered channel
+    public void close() {
+        if (channelName != null) {
+            CHANNELS.computeIfPresent(channelName, (name, channel) -> channel == this && --references == 0 ? null : channel);
+        }
+    }
+}
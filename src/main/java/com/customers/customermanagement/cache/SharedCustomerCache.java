@@ -0,0 +1,15 @@
+package com.customers.customermanagement.cache;
+
+import java.util.UUID;
+
+/**
+ * Cache tier shared by all replicas, consulted when the near-cache misses.
+ */
+public interface SharedCustomerCache {
+
+    VersionedCustomer get(UUID id);
+
+    void put(VersionedCustomer customer);
+
+    void invalidate(UUID id, long version);
+}
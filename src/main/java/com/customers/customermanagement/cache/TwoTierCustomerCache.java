@@ -0,0 +1,87 @@
+package com.customers.customermanagement.cache;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Near-cache per replica in front of a {@link SharedCustomerCache}. Writes invalidate both tiers and
+ * broadcast an {@link InvalidationMessage} so the other replicas drop their near copies. Every copy
+ * expires {@code ttl} after it was read from the database, whichever tier it was served from.
+ */
+public class TwoTierCustomerCache {
+
+    private final UUID nodeId = UUID.randomUUID();
+    private final VersionedCustomerMap near;
+    private final SharedCustomerCache shared;
+    private final InvalidationTransport transport;
+    private final Consumer<InvalidationMessage> listener = this::onInvalidation;
+
+    public TwoTierCustomerCache(SharedCustomerCache shared, InvalidationTransport transport, int nearMaxSize) {
+        this(shared, transport, nearMaxSize, VersionedCustomerMap.DEFAULT_TTL, VersionedCustomerMap.DEFAULT_MARKER_RETENTION, Clock.systemUTC());
+    }
+
+    public TwoTierCustomerCache(SharedCustomerCache shared, InvalidationTransport transport, int nearMaxSize,
+                                Duration ttl, Duration markerRetention, Clock clock) {
+        this.near = new VersionedCustomerMap(nearMaxSize, ttl, markerRetention, clock);
+        this.shared = shared;
+        this.transport = transport;
+        transport.subscribe(listener);
+    }
+
+    public VersionedCustomer get(UUID id) {
+        VersionedCustomer cached = near.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        cached = shared.get(id);
+        if (cached != null) {
+            near.put(cached);
+        }
+        return cached;
+    }
+
+    // Called with a customer just read from the database
+    public void put(VersionedCustomer customer) {
+        near.put(customer);
+        shared.put(customer);
+    }
+
+    /**
+     * Invalidates every copy of the customer older than {@code version}, here and on the other replicas.
+     */
+    public void invalidate(UUID id, long version) {
+        invalidate(id, version, null);
+    }
+
+    /**
+     * Same as {@link #invalidate(UUID, long)}, also publishing the customer's new state for subscribers
+     * that keep their own copy.
+     */
+    public void invalidate(UUID id, long version, CustomerDTO current) {
+        if (id == null) {
+            return;
+        }
+        near.invalidate(id, version);
+        shared.invalidate(id, version);
+        transport.publish(new InvalidationMessage(nodeId, id, version, current));
+    }
+
+    public void onInvalidation(InvalidationMessage message) {
+        if (!nodeId.equals(message.getOriginNodeId())) {
+            near.invalidate(message.getCustomerId(), message.getVersion());
+        }
+    }
+
+    public UUID getNodeId() {
+        return nodeId;
+    }
+
+    // Stops receiving invalidations once the owning context is closed
+    public void close() {
+        transport.unsubscribe(listener);
+    }
+}
@@ -0,0 +1,36 @@
+package com.customers.customermanagement.cache;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+
+/**
+ * Cached customer together with the entity version it was read at and when it was read. Both tiers
+ * expire an entry relative to that read time, so copying it into the near-cache does not extend its life.
+ */
+public class VersionedCustomer {
+
+    private final CustomerDTO customer;
+    private final long version;
+    private final long loadedAtMillis;
+
+    public VersionedCustomer(CustomerDTO customer, long version) {
+        this(customer, version, System.currentTimeMillis());
+    }
+
+    public VersionedCustomer(CustomerDTO customer, long version, long loadedAtMillis) {
+        this.customer = customer;
+        this.version = version;
+        this.loadedAtMillis = loadedAtMillis;
+    }
+
+    public CustomerDTO getCustomer() {
+        return customer;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+}
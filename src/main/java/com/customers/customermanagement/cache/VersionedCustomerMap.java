@@ -0,0 +1,97 @@
+package com.customers.customermanagement.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Customer map that orders writes by entity version. An invalidation leaves a marker holding the
+ * version it was issued for, so a late put of an older read, or an invalidation delivered out of
+ * order, cannot overwrite newer state.
+ *
+ * <p>Customers expire {@code ttl} after they were read, which bounds how long any copy missed by an
+ * invalidation can be served. Markers are kept for {@code markerRetention}, which must exceed the
+ * longest database read, and are never dropped to make room.
+ */
+class VersionedCustomerMap {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    static final Duration DEFAULT_MARKER_RETENTION = Duration.ofMinutes(1);
+
+    private final Map<UUID, VersionedCustomer> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long markerRetentionMillis;
+    private final Clock clock;
+
+    VersionedCustomerMap(int maxSize, Duration ttl, Duration markerRetention, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.markerRetentionMillis = markerRetention.toMillis();
+        this.clock = clock;
+    }
+
+    // Returns null on a miss, for invalidation markers and for expired customers
+    VersionedCustomer get(UUID id) {
+        VersionedCustomer entry = entries.get(id);
+        if (entry == null || entry.getCustomer() == null) {
+            return null;
+        }
+        if (isExpired(entry, clock.millis())) {
+            entries.remove(id, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    void put(VersionedCustomer customer) {
+        long now = clock.millis();
+        if (isExpired(customer, now)) {
+            return;
+        }
+        entries.compute(customer.getCustomer().getId(),
+                (id, current) -> current == null || isExpired(current, now) || current.getVersion() <= customer.getVersion() ? customer : current);
+        evictIfFull();
+    }
+
+    /**
+     * Drops anything older than {@code version}. Entries already at or past that version are kept.
+     */
+    void invalidate(UUID id, long version) {
+        long now = clock.millis();
+        entries.compute(id, (key, current) -> current != null && !isExpired(current, now) && current.getVersion() >= version
+                ? current
+                : new VersionedCustomer(null, version, now));
+        evictIfFull();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(VersionedCustomer entry, long now) {
+        long lifetime = entry.getCustomer() == null ? markerRetentionMillis : ttlMillis;
+        return now - entry.getLoadedAtMillis() >= lifetime;
+    }
+
+    // Drops expired entries first, then customers; live markers are only removed once they expire
+    private void evictIfFull() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long now = clock.millis();
+        entries.values().removeIf(entry -> isExpired(entry, now));
+        Iterator<Map.Entry<UUID, VersionedCustomer>> iterator = entries.entrySet().iterator();
+        int toRemove = entries.size() - maxSize + maxSize / 10;
+        while (toRemove > 0 && iterator.hasNext()) {
+            Map.Entry<UUID, VersionedCustomer> entry = iterator.next();
+            // Conditional remove, so a marker that just replaced this customer survives
+            if (entry.getValue().getCustomer() != null && entries.remove(entry.getKey(), entry.getValue())) {
+                toRemove--;
+            }
+        }
+    }
+}
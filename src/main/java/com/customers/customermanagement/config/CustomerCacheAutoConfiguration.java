@@ -0,0 +1,53 @@
+package com.customers.customermanagement.config;
+
+import com.customers.customermanagement.cache.InMemorySharedCustomerCache;
+import com.customers.customermanagement.cache.InvalidationTransport;
+import com.customers.customermanagement.cache.LocalInvalidationTransport;
+import com.customers.customermanagement.cache.SharedCustomerCache;
+import com.customers.customermanagement.cache.TwoTierCustomerCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Wires the customer cache. The shared tier and the invalidation transport default to in-process
+ * implementations; declaring another {@link SharedCustomerCache} or {@link InvalidationTransport}
+ * bean in the application replaces them. Registered as an auto-configuration (see
+ * {@code META-INF/spring/...AutoConfiguration.imports}) so it is processed after the application's
+ * own beans and {@code @ConditionalOnMissingBean} sees them. Read-only snapshot nodes only need the
+ * transport to receive deltas.
+ */
+@AutoConfiguration
+public class CustomerCacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @Profile("!snapshot")
+    public SharedCustomerCache sharedCustomerCache(@Value("${customer.cache.cluster-name:customer-app}") String clusterName,
+                                                   @Value("${customer.cache.shared.max-size:100000}") int maxSize,
+                                                   @Value("${customer.cache.ttl:PT10M}") Duration ttl,
+                                                   @Value("${customer.cache.marker-retention:PT1M}") Duration markerRetention) {
+        return InMemorySharedCustomerCache.forCluster(clusterName, maxSize, ttl, markerRetention);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InvalidationTransport invalidationTransport(@Value("${customer.cache.cluster-name:customer-app}") String clusterName) {
+        return LocalInvalidationTransport.forChannel(clusterName);
+    }
+
+    @Bean
+    @Profile("!snapshot")
+    public TwoTierCustomerCache twoTierCustomerCache(SharedCustomerCache sharedCustomerCache,
+                                                     InvalidationTransport invalidationTransport,
+                                                     @Value("${customer.cache.near.max-size:10000}") int nearMaxSize,
+                                                     @Value("${customer.cache.ttl:PT10M}") Duration ttl,
+                                                     @Value("${customer.cache.marker-retention:PT1M}") Duration markerRetention) {
+        return new TwoTierCustomerCache(sharedCustomerCache, invalidationTransport, nearMaxSize, ttl, markerRetention, Clock.systemUTC());
+    }
+}
@@ -1,9 +1,11 @@
 package com.customers.customermanagement.controller;
 
+import com.customers.customermanagement.dto.BatchCreateResultDTO;
 import com.customers.customermanagement.dto.CustomerDTO;
 import com.customers.customermanagement.service.CustomerService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +15,7 @@ import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/customers")
+@Profile("!reactive & !snapshot")
 public class CustomerController {
 
     private final CustomerService customerService;
@@ -28,6 +31,12 @@ public class CustomerController {
         return new ResponseEntity<>(customerService.createCustomer(customerDTO), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResultDTO> createCustomers(@RequestBody List<CustomerDTO> customerDTOs) {
+        // Each customer is validated individually, invalid ones are reported in the result instead of failing the request
+        return ResponseEntity.ok(customerService.createCustomers(customerDTOs));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CustomerDTO> getCustomer(@PathVariable UUID id) {
         // Return CustomerDTO from service
@@ -0,0 +1,36 @@
+package com.customers.customermanagement.controller;
+
+import com.customers.customermanagement.dto.DuplicateCandidateDTO;
+import com.customers.customermanagement.dto.DuplicateClusterDTO;
+import com.customers.customermanagement.service.DuplicateDetectionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/customers")
+@Profile("!reactive & !snapshot")
+public class DuplicateCustomerController {
+
+    private final DuplicateDetectionService duplicateDetectionService;
+
+    @Autowired
+    public DuplicateCustomerController(DuplicateDetectionService duplicateDetectionService) {
+        this.duplicateDetectionService = duplicateDetectionService;
+    }
+
+    @GetMapping("/{id}/duplicates")
+    public List<DuplicateCandidateDTO> getDuplicateCandidates(@PathVariable UUID id) {
+        // Candidate duplicates of a single customer, served from the similarity index
+        return duplicateDetectionService.findDuplicates(id);
+    }
+
+    @GetMapping("/duplicates")
+    public List<DuplicateClusterDTO> getDuplicateClusters() {
+        // Full-table scan grouping all customers into duplicate clusters
+        return duplicateDetectionService.findDuplicateClusters();
+    }
+}
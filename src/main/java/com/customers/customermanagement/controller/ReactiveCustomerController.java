@@ -0,0 +1,70 @@
+package com.customers.customermanagement.controller;
+
+import com.customers.customermanagement.dto.BatchCreateResultDTO;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.service.ReactiveCustomerService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Same endpoints and {@link CustomerDTO} contract as {@link CustomerController}, served by WebFlux
+ * when the "reactive" profile is active.
+ */
+@RestController
+@RequestMapping("/api/customers")
+@Profile("reactive")
+public class ReactiveCustomerController {
+
+    private final ReactiveCustomerService customerService;
+
+    @Autowired
+    public ReactiveCustomerController(ReactiveCustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<CustomerDTO>> createCustomer(@Valid @RequestBody CustomerDTO customerDTO) {
+        return customerService.createCustomer(customerDTO)
+                .map(created -> new ResponseEntity<>(created, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<BatchCreateResultDTO>> createCustomers(@RequestBody List<CustomerDTO> customerDTOs) {
+        // Each customer is validated individually, invalid ones are reported in the result instead of failing the request
+        return customerService.createCustomers(customerDTOs).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CustomerDTO>> getCustomer(@PathVariable UUID id) {
+        return customerService.getCustomerById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CustomerDTO> getAllCustomers() {
+        // Streamed as a JSON array, or one object per line for application/x-ndjson clients
+        return customerService.getAllCustomers();
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CustomerDTO>> updateCustomer(@PathVariable UUID id, @Valid @RequestBody CustomerDTO customerDTO) {
+        return customerService.updateCustomer(id, customerDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteCustomer(@PathVariable UUID id) {
+        return customerService.deleteCustomer(id)
+                .map(deleted -> deleted ? ResponseEntity.ok("Successfully deleted the customer with ID: " + id) : ResponseEntity.<String>notFound().build());
+    }
+}
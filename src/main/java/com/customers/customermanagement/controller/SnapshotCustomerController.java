@@ -0,0 +1,60 @@
+package com.customers.customermanagement.controller;
+
+import com.customers.customermanagement.exception.CustomerNotFoundException;
+import com.customers.customermanagement.snapshot.CustomerSnapshotStore;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.UUID;
+
+/**
+ * Read-only customer lookups for nodes started with the "snapshot" profile. The stored JSON bytes are
+ * written from the mapped snapshot to the response (through the servlet's output buffer), without
+ * building or serializing a CustomerDTO.
+ */
+@RestController
+@RequestMapping("/api/customers")
+@Profile("snapshot")
+public class SnapshotCustomerController {
+
+    private final CustomerSnapshotStore snapshotStore;
+
+    @Autowired
+    public SnapshotCustomerController(CustomerSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    @GetMapping("/{id}")
+    public void getCustomer(@PathVariable UUID id, HttpServletResponse response) throws IOException {
+        writeJson(snapshotStore.findJsonById(id), "Customer with ID " + id + " not found.", response);
+    }
+
+    @GetMapping("/by-email")
+    public void getCustomerByEmail(@RequestParam String email, HttpServletResponse response) throws IOException {
+        writeJson(snapshotStore.findJsonByEmail(email), "Customer with email " + email + " not found.", response);
+    }
+
+    private void writeJson(ByteBuffer json, String notFoundMessage, HttpServletResponse response) throws IOException {
+        if (!snapshotStore.isLoaded()) {
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Customer snapshot not loaded yet");
+            return;
+        }
+        if (json == null) {
+            throw new CustomerNotFoundException(notFoundMessage);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(json.remaining());
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (json.hasRemaining()) {
+            channel.write(json);
+        }
+    }
+}
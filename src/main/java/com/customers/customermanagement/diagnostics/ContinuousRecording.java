@@ -0,0 +1,104 @@
+package com.customers.customermanagement.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Rolling JFR recording kept for the lifetime of the application. It uses the JDK "default" settings,
+ * which are designed for continuous use in production, plus the customer events, and retains at most
+ * {@code maxAge} and {@code maxSize} of data. Events that capture the environment, system properties
+ * or JVM arguments are switched off, as those carry the database credentials.
+ */
+@Component
+@Profile("!snapshot")
+@ConditionalOnProperty(name = "customer.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class ContinuousRecording implements SmartLifecycle {
+
+    // Would record DB_USERNAME/DB_PASSWORD and any -D secrets into every dump
+    private static final String[] SENSITIVE_EVENTS = {
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation"
+    };
+
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private Recording recording;
+
+    public ContinuousRecording(@Value("${customer.diagnostics.recording.max-age:PT30M}") Duration maxAge,
+                               @Value("${customer.diagnostics.recording.max-size:100MB}") DataSize maxSize) {
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public synchronized void start() {
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load the default JFR configuration", e);
+        }
+        recording.setName("customer-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        for (String event : SENSITIVE_EVENTS) {
+            recording.disable(event);
+        }
+        recording.enable(CustomerRequestEvent.class);
+        recording.enable(CustomerServiceEvent.class);
+        recording.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recording != null;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Writes the recorded data of the last {@code window} to a new temporary .jfr file. The file may
+     * start somewhat earlier than requested, as JFR data is stored in chunks.
+     */
+    public Path dump(Duration window) throws IOException {
+        Path file = Files.createTempFile("customer-", ".jfr");
+        Instant end = Instant.now();
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot();
+             InputStream data = snapshot.getStream(end.minus(window), end)) {
+            if (data != null) {
+                Files.copy(data, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+}
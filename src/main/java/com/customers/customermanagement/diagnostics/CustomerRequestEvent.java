@@ -0,0 +1,42 @@
+package com.customers.customermanagement.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One HTTP request to the customer API. The event duration is the full request time.
+ */
+@Name("com.customers.CustomerRequest")
+@Label("Customer Request")
+@Category({"Customer Management", "HTTP"})
+@Description("Request handled by the customer API with its service and database time")
+@StackTrace(false)
+public class CustomerRequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Customer ID")
+    String customerId;
+
+    @Label("Status")
+    int status;
+
+    @Label("Row Count")
+    int rowCount;
+
+    @Label("Service Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long serviceTime;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dbTime;
+}
@@ -0,0 +1,32 @@
+package com.customers.customermanagement.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One call to a public {@code CustomerService} operation.
+ */
+@Name("com.customers.CustomerServiceOperation")
+@Label("Customer Service Operation")
+@Category({"Customer Management", "Service"})
+@Description("CustomerService operation with its row count and database time")
+@StackTrace(false)
+public class CustomerServiceEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Customer ID")
+    String customerId;
+
+    @Label("Row Count")
+    int rowCount;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dbTime;
+}
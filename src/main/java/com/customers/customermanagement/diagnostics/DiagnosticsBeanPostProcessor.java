@@ -0,0 +1,117 @@
+package com.customers.customermanagement.diagnostics;
+
+import com.customers.customermanagement.repository.CustomerRepository;
+import com.customers.customermanagement.service.CustomerService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Wraps {@link CustomerService} to emit a {@link CustomerServiceEvent} per operation and
+ * {@link CustomerRepository} to attribute database time to the current request.
+ */
+@Component
+@ConditionalOnProperty(name = "customer.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsBeanPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CustomerService) {
+            ProxyFactory proxyFactory = new ProxyFactory(bean);
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvice(new ServiceInterceptor());
+            return proxyFactory.getProxy(bean.getClass().getClassLoader());
+        }
+        if (bean instanceof CustomerRepository) {
+            // Spring Data repositories are already JDK proxies, so proxy the interface only
+            ProxyFactory proxyFactory = new ProxyFactory();
+            proxyFactory.setTarget(bean);
+            proxyFactory.addInterface(CustomerRepository.class);
+            proxyFactory.addAdvice(new RepositoryInterceptor());
+            return proxyFactory.getProxy(CustomerRepository.class.getClassLoader());
+        }
+        return bean;
+    }
+
+    private static final class ServiceInterceptor implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RequestDiagnostics diagnostics = RequestDiagnostics.current();
+            boolean ownsDiagnostics = diagnostics == null;
+            if (ownsDiagnostics) {
+                diagnostics = RequestDiagnostics.begin();
+            }
+            CustomerServiceEvent event = new CustomerServiceEvent();
+            long dbBefore = diagnostics.dbNanos;
+            long start = System.nanoTime();
+            event.begin();
+            Object result = null;
+            try {
+                result = invocation.proceed();
+                return result;
+            } finally {
+                event.end();
+                String customerId = customerId(invocation.getArguments());
+                int rowCount = rowCount(result);
+                diagnostics.serviceNanos += System.nanoTime() - start;
+                diagnostics.rowCount += rowCount;
+                if (customerId != null) {
+                    diagnostics.customerId = customerId;
+                }
+                if (event.shouldCommit()) {
+                    event.operation = invocation.getMethod().getName();
+                    event.customerId = customerId;
+                    event.rowCount = rowCount;
+                    event.dbTime = diagnostics.dbNanos - dbBefore;
+                    event.commit();
+                }
+                if (ownsDiagnostics) {
+                    RequestDiagnostics.end();
+                }
+            }
+        }
+
+        private static String customerId(Object[] arguments) {
+            for (Object argument : arguments) {
+                if (argument instanceof UUID) {
+                    return argument.toString();
+                }
+            }
+            return null;
+        }
+
+        private static int rowCount(Object result) {
+            if (result == null) {
+                return 0;
+            }
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            return 1;
+        }
+    }
+
+    private static final class RepositoryInterceptor implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RequestDiagnostics diagnostics = RequestDiagnostics.current();
+            if (diagnostics == null) {
+                return invocation.proceed();
+            }
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                diagnostics.dbNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
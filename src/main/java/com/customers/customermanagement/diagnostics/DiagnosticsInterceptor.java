@@ -0,0 +1,68 @@
+package com.customers.customermanagement.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Emits a {@link CustomerRequestEvent} for every customer API request and hands its timing breakdown
+ * to the {@link SlowRequestTracker}.
+ */
+public class DiagnosticsInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = DiagnosticsInterceptor.class.getName() + ".event";
+    private static final String START_ATTRIBUTE = DiagnosticsInterceptor.class.getName() + ".start";
+
+    private final SlowRequestTracker slowRequestTracker;
+
+    public DiagnosticsInterceptor(SlowRequestTracker slowRequestTracker) {
+        this.slowRequestTracker = slowRequestTracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CustomerRequestEvent event = new CustomerRequestEvent();
+        event.begin();
+        request.setAttribute(EVENT_ATTRIBUTE, event);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        RequestDiagnostics.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        CustomerRequestEvent event = (CustomerRequestEvent) request.getAttribute(EVENT_ATTRIBUTE);
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        RequestDiagnostics.end();
+        if (event == null || start == null || diagnostics == null) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        String customerId = diagnostics.customerId != null ? diagnostics.customerId : pathCustomerId(request);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = request.getMethod();
+            event.path = request.getRequestURI();
+            event.customerId = customerId;
+            event.status = response.getStatus();
+            event.rowCount = diagnostics.rowCount;
+            event.serviceTime = diagnostics.serviceNanos;
+            event.dbTime = diagnostics.dbNanos;
+            event.commit();
+        }
+        slowRequestTracker.record(new SlowRequest(Instant.now(), request.getMethod(), request.getRequestURI(), customerId,
+                response.getStatus(), diagnostics.rowCount, duration, diagnostics.serviceNanos, diagnostics.dbNanos));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String pathCustomerId(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables == null ? null : variables.get("id");
+    }
+}
@@ -0,0 +1,26 @@
+package com.customers.customermanagement.diagnostics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "customer.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsWebConfig implements WebMvcConfigurer {
+
+    private final SlowRequestTracker slowRequestTracker;
+
+    @Autowired
+    public DiagnosticsWebConfig(SlowRequestTracker slowRequestTracker) {
+        this.slowRequestTracker = slowRequestTracker;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new DiagnosticsInterceptor(slowRequestTracker)).addPathPatterns("/api/customers/**");
+    }
+}
@@ -0,0 +1,69 @@
+package com.customers.customermanagement.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@code /actuator/jfr?minutes=N} downloads the last N minutes of the continuous recording. Not
+ * exposed over HTTP by default; add {@code jfr} to the exposure list only behind authentication.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@Profile("!snapshot")
+@ConditionalOnProperty(name = "customer.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEndpoint {
+
+    private static final int DEFAULT_MINUTES = 5;
+
+    private final ContinuousRecording continuousRecording;
+
+    public JfrEndpoint(ContinuousRecording continuousRecording) {
+        this.continuousRecording = continuousRecording;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) throws IOException {
+        Duration window = Duration.ofMinutes(minutes != null ? minutes : DEFAULT_MINUTES);
+        if (window.isNegative() || window.isZero() || window.compareTo(continuousRecording.getMaxAge()) > 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Path file = continuousRecording.dump(window);
+        return new WebEndpointResponse<>(new TemporaryFileResource(file), WebEndpointResponse.STATUS_OK);
+    }
+
+    // Deletes the dump once it has been streamed to the client
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
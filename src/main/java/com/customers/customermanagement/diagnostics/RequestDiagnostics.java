@@ -0,0 +1,33 @@
+package com.customers.customermanagement.diagnostics;
+
+/**
+ * Per-thread accumulator for the timings of the request being handled. Filled in by the service and
+ * repository interceptors and read back when the request completes.
+ */
+final class RequestDiagnostics {
+
+    private static final ThreadLocal<RequestDiagnostics> CURRENT = new ThreadLocal<>();
+
+    long serviceNanos;
+    long dbNanos;
+    int rowCount;
+    String customerId;
+
+    private RequestDiagnostics() {
+    }
+
+    static RequestDiagnostics begin() {
+        RequestDiagnostics diagnostics = new RequestDiagnostics();
+        CURRENT.set(diagnostics);
+        return diagnostics;
+    }
+
+    // Null outside of a request, e.g. for scheduled jobs
+    static RequestDiagnostics current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
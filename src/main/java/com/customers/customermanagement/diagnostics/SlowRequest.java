@@ -0,0 +1,77 @@
+package com.customers.customermanagement.diagnostics;
+
+import java.time.Instant;
+
+/**
+ * Timing breakdown of one completed request, as listed by the slow request endpoint.
+ */
+public class SlowRequest {
+
+    private final Instant timestamp;
+    private final String method;
+    private final String path;
+    private final String customerId;
+    private final int status;
+    private final int rowCount;
+    private final long durationNanos;
+    private final long serviceNanos;
+    private final long dbNanos;
+
+    public SlowRequest(Instant timestamp, String method, String path, String customerId, int status, int rowCount,
+                       long durationNanos, long serviceNanos, long dbNanos) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.customerId = customerId;
+        this.status = status;
+        this.rowCount = rowCount;
+        this.durationNanos = durationNanos;
+        this.serviceNanos = serviceNanos;
+        this.dbNanos = dbNanos;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public double getDurationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+
+    public double getServiceMillis() {
+        return serviceNanos / 1_000_000.0;
+    }
+
+    public double getDbMillis() {
+        return dbNanos / 1_000_000.0;
+    }
+
+    // Time spent outside the service layer: routing, (de)serialization, filters
+    public double getWebMillis() {
+        return (durationNanos - serviceNanos) / 1_000_000.0;
+    }
+
+    long getDurationNanos() {
+        return durationNanos;
+    }
+}
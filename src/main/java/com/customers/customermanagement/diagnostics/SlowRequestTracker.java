@@ -0,0 +1,80 @@
+package com.customers.customermanagement.diagnostics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the slowest requests of the last few minutes. Requests go into one bucket per minute, each a
+ * min-heap bounded to {@code capacity}, so recording is a cheap comparison for most requests and
+ * memory stays fixed whatever the traffic.
+ */
+@Component
+@ConditionalOnProperty(name = "customer.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestTracker {
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final Bucket[] buckets;
+    private final int capacity;
+
+    @Autowired
+    public SlowRequestTracker(@Value("${customer.diagnostics.slow-requests.window:PT10M}") Duration window,
+                              @Value("${customer.diagnostics.slow-requests.capacity:50}") int capacity) {
+        this.buckets = new Bucket[(int) Math.max(1, window.toMinutes())];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.capacity = capacity;
+    }
+
+    public void record(SlowRequest request) {
+        long minute = request.getTimestamp().toEpochMilli() / MILLIS_PER_MINUTE;
+        Bucket bucket = buckets[(int) (minute % buckets.length)];
+        synchronized (bucket) {
+            if (bucket.minute != minute) {
+                bucket.minute = minute;
+                bucket.slowest.clear();
+            }
+            if (bucket.slowest.size() < capacity) {
+                bucket.slowest.add(request);
+            } else if (request.getDurationNanos() > bucket.slowest.peek().getDurationNanos()) {
+                bucket.slowest.poll();
+                bucket.slowest.add(request);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the slowest requests within the window, slowest first.
+     */
+    public List<SlowRequest> slowest(int limit) {
+        long currentMinute = Instant.now().toEpochMilli() / MILLIS_PER_MINUTE;
+        List<SlowRequest> all = new ArrayList<>();
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                if (bucket.minute > currentMinute - buckets.length) {
+                    all.addAll(bucket.slowest);
+                }
+            }
+        }
+        return all.stream()
+                .sorted(Comparator.comparingLong(SlowRequest::getDurationNanos).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static final class Bucket {
+        private long minute = -1;
+        private final PriorityQueue<SlowRequest> slowest = new PriorityQueue<>(Comparator.comparingLong(SlowRequest::getDurationNanos));
+    }
+}
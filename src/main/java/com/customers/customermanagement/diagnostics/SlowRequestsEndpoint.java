@@ -0,0 +1,37 @@
+package com.customers.customermanagement.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/slowrequests?limit=K} lists the K slowest customer API requests of the recent
+ * window with their web, service and database time.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@ConditionalOnProperty(name = "customer.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final SlowRequestTracker slowRequestTracker;
+
+    public SlowRequestsEndpoint(SlowRequestTracker slowRequestTracker) {
+        this.slowRequestTracker = slowRequestTracker;
+    }
+
+    @ReadOperation
+    public List<SlowRequest> slowest(@Nullable Integer limit) {
+        if (limit != null && limit < 0) {
+            // Reported as 400 Bad Request
+            throw new InvalidEndpointRequestException("limit must not be negative", "limit must not be negative");
+        }
+        return slowRequestTracker.slowest(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
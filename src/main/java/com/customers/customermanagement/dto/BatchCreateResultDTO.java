@@ -0,0 +1,37 @@
+package com.customers.customermanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class BatchCreateResultDTO {
+
+    private List<CustomerDTO> created;
+
+    // Position of the rejected customer in the request to its field errors
+    private Map<Integer, Map<String, String>> errors;
+
+    public BatchCreateResultDTO() {
+    }
+
+    public BatchCreateResultDTO(List<CustomerDTO> created, Map<Integer, Map<String, String>> errors) {
+        this.created = created;
+        this.errors = errors;
+    }
+
+    public List<CustomerDTO> getCreated() {
+        return created;
+    }
+
+    public void setCreated(List<CustomerDTO> created) {
+        this.created = created;
+    }
+
+    public Map<Integer, Map<String, String>> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<Integer, Map<String, String>> errors) {
+        this.errors = errors;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.customers.customermanagement.dto;
+
+public class DuplicateCandidateDTO {
+
+    private CustomerDTO customer;
+
+    private double score;
+
+    public DuplicateCandidateDTO() {
+    }
+
+    public DuplicateCandidateDTO(CustomerDTO customer, double score) {
+        this.customer = customer;
+        this.score = score;
+    }
+
+    public CustomerDTO getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(CustomerDTO customer) {
+        this.customer = customer;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.customers.customermanagement.dto;
+
+import java.util.List;
+
+public class DuplicateClusterDTO {
+
+    private List<CustomerDTO> customers;
+
+    public DuplicateClusterDTO() {
+    }
+
+    public DuplicateClusterDTO(List<CustomerDTO> customers) {
+        this.customers = customers;
+    }
+
+    public List<CustomerDTO> getCustomers() {
+        return customers;
+    }
+
+    public void setCustomers(List<CustomerDTO> customers) {
+        this.customers = customers;
+    }
+
+}
@@ -3,10 +3,9 @@ package com.customers.customermanagement.entity;
 import com.customers.customermanagement.dto.CustomerDTO;
 import jakarta.persistence.*;
 import org.hibernate.annotations.GenericGenerator;
+import java.time.Instant;
 import java.util.UUID;
 
-import jakarta.validation.constraints.*;
-
 @Entity
 public class Customer {
 
@@ -15,26 +14,32 @@ public class Customer {
     @GenericGenerator(name = "uuid2", strategy = "uuid2")  // Using uuid2 strategy for UUID generation
     private UUID id;
 
-    @NotBlank(message = "Phone number is mandatory")
-    @Pattern(regexp = "^[0-9]{10}$", message = "Phone number must be exactly 10 digits")
+    // Field constraints are checked once per request on CustomerDTO, see CustomerFieldValidator
     @Column(nullable = false)
     private String phoneNumber;
 
-    @NotBlank(message = "First name is mandatory")
     @Column(nullable = false)
     private String firstName;
 
     private String middleName;
 
-    @NotBlank(message = "Last name is mandatory")
     @Column(nullable = false)
     private String lastName;
 
-    @Email(message = "Enter a valid email")
-    @NotBlank(message = "Email address is mandatory")
     @Column(unique = true, nullable = false)
     private String emailAddress;
 
+    // Tombstone set by a soft delete, tombstoned rows are hidden from reads until TombstoneCompactor purges them
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean deleted;
+
+    private Instant deletedAt;
+
+    // Bumped on every update, orders cache invalidations across replicas
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     public Customer() {
     }
 
@@ -95,6 +100,30 @@ public class Customer {
         this.emailAddress = emailAddress;
     }
 
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public CustomerDTO getCustomerDTO(Customer customer) {
         CustomerDTO customerDTO = new CustomerDTO();
 
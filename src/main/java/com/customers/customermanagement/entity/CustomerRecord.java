@@ -0,0 +1,139 @@
+package com.customers.customermanagement.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * R2DBC mapping of the {@code customer} table used by the reactive stack. The schema itself is
+ * owned by the JPA {@link Customer} entity.
+ */
+@Table("customer")
+public class CustomerRecord implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    private String phoneNumber;
+
+    private String firstName;
+
+    private String middleName;
+
+    private String lastName;
+
+    private String emailAddress;
+
+    private boolean deleted;
+
+    private Instant deletedAt;
+
+    // Same column as Customer.version, so reactive writes order cache invalidations like JPA writes
+    @Version
+    private long version;
+
+    // IDs are assigned client-side, so Spring Data cannot tell inserts from updates by a null ID
+    @Transient
+    private boolean newRecord;
+
+    public CustomerRecord() {
+    }
+
+    public CustomerRecord(UUID id, String phoneNumber, String firstName, String middleName, String lastName, String emailAddress) {
+        this.id = id;
+        this.phoneNumber = phoneNumber;
+        this.firstName = firstName;
+        this.middleName = middleName;
+        this.lastName = lastName;
+        this.emailAddress = emailAddress;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getMiddleName() {
+        return middleName;
+    }
+
+    public void setMiddleName(String middleName) {
+        this.middleName = middleName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    public void setEmailAddress(String emailAddress) {
+        this.emailAddress = emailAddress;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    public CustomerRecord markNew() {
+        this.newRecord = true;
+        return this;
+    }
+
+}
@@ -1,12 +1,49 @@
 package com.customers.customermanagement.repository;
 
 import com.customers.customermanagement.entity.Customer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
-    boolean existsByEmailAddress(String emailAddress);
+    // Prefix of the placeholder email a tombstone holds instead of the customer's address
+    String DELETED_EMAIL_PREFIX = "deleted:";
+
+    // Reads that skip soft-deleted customers
+    boolean existsByEmailAddressAndDeletedFalse(String emailAddress);
+
+    Optional<Customer> findByIdAndDeletedFalse(UUID id);
+
+    List<Customer> findAllByDeletedFalse();
+
+    // Single-statement soft delete, returns 0 if the customer does not exist or is already deleted.
+    // Bumps the version like any other write and replaces the email with one derived from the ID, so
+    // the unique address is free for a new customer at once
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Customer c set c.deleted = true, c.deletedAt = :deletedAt, c.emailAddress = concat('" + DELETED_EMAIL_PREFIX + "', cast(c.id as String)), "
+            + "c.version = c.version + 1 where c.id = :id and c.deleted = false")
+    int softDeleteById(@Param("id") UUID id, @Param("deletedAt") Instant deletedAt);
+
+    // Frees the emails still held by tombstones written before soft deletes replaced them
+    @Transactional
+    @Modifying
+    @Query("update Customer c set c.emailAddress = concat('" + DELETED_EMAIL_PREFIX + "', cast(c.id as String)) "
+            + "where c.deleted = true and c.emailAddress not like '" + DELETED_EMAIL_PREFIX + "%'")
+    int releaseTombstoneEmails();
+
+    @Query("select c.id from Customer c where c.deleted = true and c.deletedAt < :cutoff order by c.deletedAt")
+    List<UUID> findTombstoneIds(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    long countByDeletedTrue();
 }
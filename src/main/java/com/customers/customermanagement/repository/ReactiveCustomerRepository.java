@@ -0,0 +1,28 @@
+package com.customers.customermanagement.repository;
+
+import com.customers.customermanagement.entity.CustomerRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface ReactiveCustomerRepository extends R2dbcRepository<CustomerRecord, UUID> {
+    Mono<Boolean> existsByEmailAddressAndDeletedFalse(String emailAddress);
+
+    Mono<CustomerRecord> findByIdAndDeletedFalse(UUID id);
+
+    Flux<CustomerRecord> findAllByDeletedFalse();
+
+    // Single-statement soft delete, emits 0 if the customer does not exist or is already deleted.
+    // Same statement as CustomerRepository.softDeleteById: bumps the version and frees the email
+    @Modifying
+    @Query("UPDATE customer SET deleted = TRUE, deleted_at = :deletedAt, email_address = CONCAT('" + CustomerRepository.DELETED_EMAIL_PREFIX + "', CAST(id AS VARCHAR)), "
+            + "version = version + 1 WHERE id = :id AND deleted = FALSE")
+    Mono<Integer> softDeleteById(UUID id, Instant deletedAt);
+}
@@ -1,52 +1,94 @@
 package com.customers.customermanagement.service;
 
+import com.customers.customermanagement.cache.TwoTierCustomerCache;
+import com.customers.customermanagement.cache.VersionedCustomer;
+import com.customers.customermanagement.dto.BatchCreateResultDTO;
 import com.customers.customermanagement.dto.CustomerDTO;
 import com.customers.customermanagement.entity.Customer;
 import com.customers.customermanagement.exception.CustomerAlreadyExistsException;
 import com.customers.customermanagement.exception.CustomerNotFoundException;
 import com.customers.customermanagement.repository.CustomerRepository;
+import com.customers.customermanagement.validation.CustomerFieldValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Profile("!snapshot")
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final TwoTierCustomerCache customerCache;
 
+    // The similarity index follows the invalidations published through customerCache, see DuplicateDetectionService
     @Autowired
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(CustomerRepository customerRepository, TwoTierCustomerCache customerCache) {
         this.customerRepository = customerRepository;
+        this.customerCache = customerCache;
     }
 
     public CustomerDTO createCustomer(CustomerDTO customerDto) {
         // Check if a customer with the same email already exists
-        if (customerRepository.existsByEmailAddress(customerDto.getEmailAddress())) {
+        if (customerRepository.existsByEmailAddressAndDeletedFalse(customerDto.getEmailAddress())) {
             throw new CustomerAlreadyExistsException("Customer with email " + customerDto.getEmailAddress() + " already exists.");
         }
-        customerRepository.flush();
-        Customer savedCustomer = customerRepository.save(convertToEntity(customerDto));
-        return convertToDTO(savedCustomer); // Convert entity to DTO before returning
+        return persistNewCustomer(customerDto);
+    }
+
+    /**
+     * Creates every valid customer in the batch. Invalid customers and duplicate emails are collected
+     * per position in the request instead of failing the whole batch.
+     */
+    public BatchCreateResultDTO createCustomers(List<CustomerDTO> customerDtos) {
+        List<CustomerDTO> created = new ArrayList<>();
+        Map<Integer, Map<String, String>> errors = new LinkedHashMap<>();
+        Set<String> batchEmails = new HashSet<>();
+        for (int i = 0; i < customerDtos.size(); i++) {
+            CustomerDTO customerDto = customerDtos.get(i);
+            Map<String, String> fieldErrors = CustomerFieldValidator.validate(customerDto);
+            if (!fieldErrors.isEmpty()) {
+                errors.put(i, fieldErrors);
+            } else if (!batchEmails.add(customerDto.getEmailAddress())
+                    || customerRepository.existsByEmailAddressAndDeletedFalse(customerDto.getEmailAddress())) {
+                errors.put(i, Map.of("emailAddress", "Customer with email " + customerDto.getEmailAddress() + " already exists."));
+            } else {
+                created.add(persistNewCustomer(customerDto));
+            }
+        }
+        return new BatchCreateResultDTO(created, errors);
     }
 
     public CustomerDTO getCustomerById(UUID id) {
+        VersionedCustomer cached = customerCache.get(id);
+        if (cached != null) {
+            return cached.getCustomer();
+        }
         // Throw exception if the customer is not found
-        Customer customer = customerRepository.findById(id).orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + id + " not found."));
-        return convertToDTO(customer); // Convert entity to DTO before returning
+        Customer customer = customerRepository.findByIdAndDeletedFalse(id).orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + id + " not found."));
+        CustomerDTO customerDto = convertToDTO(customer); // Convert entity to DTO before returning
+        customerCache.put(new VersionedCustomer(customerDto, customer.getVersion()));
+        return customerDto;
     }
 
     public List<CustomerDTO> getAllCustomers() {
         // Convert all customers to DTO and return
-        List<Customer> customers = customerRepository.findAll();
+        List<Customer> customers = customerRepository.findAllByDeletedFalse();
         return customers.stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
     public CustomerDTO updateCustomer(UUID id, CustomerDTO customerDto) {
-        Optional<Customer> existingCustomer = customerRepository.findById(id);
+        Optional<Customer> existingCustomer = customerRepository.findByIdAndDeletedFalse(id);
         if (existingCustomer.isPresent()) {
             Customer updatedCustomer = existingCustomer.get();
             updatedCustomer.setFirstName(customerDto.getFirstName());
@@ -56,19 +98,31 @@ public class CustomerService {
             updatedCustomer.setPhoneNumber(customerDto.getPhoneNumber());
             customerRepository.flush();
             Customer savedCustomer = customerRepository.save(updatedCustomer);
-            return convertToDTO(savedCustomer); // Convert entity to DTO before returning
+            CustomerDTO savedDto = convertToDTO(savedCustomer); // Convert entity to DTO before returning
+            customerCache.invalidate(id, savedCustomer.getVersion(), savedDto);
+            return savedDto;
         }
         throw new CustomerNotFoundException("Customer with ID " + id + " not found.");
     }
 
     public boolean deleteCustomer(UUID id) {
-        if (customerRepository.existsById(id)) {
-            customerRepository.deleteById(id);
+        // Tombstone the row in a single statement, TombstoneCompactor removes it later
+        if (customerRepository.softDeleteById(id, Instant.now()) > 0) {
+            // Deletion is final, no later version of this customer can exist
+            customerCache.invalidate(id, Long.MAX_VALUE);
             return true;
         }
         throw new CustomerNotFoundException("Customer with ID " + id + " not found.");
     }
 
+    private CustomerDTO persistNewCustomer(CustomerDTO customerDto) {
+        customerRepository.flush();
+        Customer savedCustomer = customerRepository.save(convertToEntity(customerDto));
+        CustomerDTO savedDto = convertToDTO(savedCustomer); // Convert entity to DTO before returning
+        customerCache.invalidate(savedDto.getId(), savedCustomer.getVersion(), savedDto);
+        return savedDto;
+    }
+
     // Method to convert a Customer entity to CustomerDTO
     private CustomerDTO convertToDTO(Customer customer) {
         return new CustomerDTO(
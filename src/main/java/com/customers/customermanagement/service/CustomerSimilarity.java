@@ -0,0 +1,212 @@
+package com.customers.customermanagement.service;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+
+import java.util.Locale;
+
+/**
+ * Normalization, blocking-key and scoring helpers used for duplicate detection.
+ */
+public final class CustomerSimilarity {
+
+    private static final double NAME_WEIGHT = 0.4;
+    private static final double EMAIL_WEIGHT = 0.35;
+    private static final double PHONE_WEIGHT = 0.25;
+
+    private CustomerSimilarity() {
+    }
+
+    // Lower-cases the address and drops "+tag" suffixes from the local part
+    public static String normalizeEmail(String email) {
+        if (email == null) {
+            return "";
+        }
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.lastIndexOf('@');
+        if (at <= 0) {
+            return normalized;
+        }
+        String local = normalized.substring(0, at);
+        int plus = local.indexOf('+');
+        if (plus > 0) {
+            local = local.substring(0, plus);
+        }
+        return local + normalized.substring(at);
+    }
+
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            if (Character.isLetter(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the blocking keys for a customer. Two customers can only be reported as duplicates
+     * if they share at least one key, so the keys are deliberately tolerant of typos and casing.
+     */
+    public static String[] blockingKeys(CustomerDTO customer) {
+        String first = normalizeName(customer.getFirstName());
+        String last = normalizeName(customer.getLastName());
+        String email = normalizeEmail(customer.getEmailAddress());
+        String phone = normalizePhone(customer.getPhoneNumber());
+
+        String[] keys = new String[4];
+        int n = 0;
+        if (!email.isEmpty()) {
+            keys[n++] = "E:" + email;
+        }
+        if (!phone.isEmpty()) {
+            keys[n++] = "P:" + phone;
+        }
+        if (!last.isEmpty()) {
+            // Phonetic last name plus first initial survives most misspellings of the last name
+            keys[n++] = "N:" + soundex(last) + (first.isEmpty() ? "" : first.charAt(0));
+        }
+        if (!first.isEmpty() && phone.length() >= 4) {
+            // Catches a changed last name (e.g. after marriage) with the same person and phone line
+            keys[n++] = "F:" + soundex(first) + phone.substring(phone.length() - 4);
+        }
+        String[] result = new String[n];
+        System.arraycopy(keys, 0, result, 0, n);
+        return result;
+    }
+
+    /**
+     * Scores how likely two customers are the same person, between 0 and 1.
+     */
+    public static double score(CustomerDTO a, CustomerDTO b) {
+        String nameA = normalizeName(a.getFirstName()) + " " + normalizeName(a.getLastName());
+        String nameB = normalizeName(b.getFirstName()) + " " + normalizeName(b.getLastName());
+        double nameScore = jaroWinkler(nameA, nameB);
+
+        String emailA = normalizeEmail(a.getEmailAddress());
+        String emailB = normalizeEmail(b.getEmailAddress());
+        double emailScore = emailA.equals(emailB) ? 1.0 : jaroWinkler(localPart(emailA), localPart(emailB)) * 0.8;
+
+        String phoneA = normalizePhone(a.getPhoneNumber());
+        String phoneB = normalizePhone(b.getPhoneNumber());
+        double phoneScore = !phoneA.isEmpty() && phoneA.equals(phoneB) ? 1.0 : 0.0;
+
+        return NAME_WEIGHT * nameScore + EMAIL_WEIGHT * emailScore + PHONE_WEIGHT * phoneScore;
+    }
+
+    // American Soundex code, e.g. "robert" and "rupert" both map to R163
+    static String soundex(String name) {
+        char[] code = {name.charAt(0), '0', '0', '0'};
+        char last = soundexDigit(name.charAt(0));
+        int n = 1;
+        for (int i = 1; i < name.length() && n < 4; i++) {
+            char c = name.charAt(i);
+            char digit = soundexDigit(c);
+            if (digit != '0' && digit != last) {
+                code[n++] = digit;
+            }
+            // 'h' and 'w' do not separate letters with the same code, vowels do
+            if (c != 'h' && c != 'w') {
+                last = digit;
+            }
+        }
+        code[0] = Character.toUpperCase(code[0]);
+        return new String(code);
+    }
+
+    private static char soundexDigit(char c) {
+        switch (c) {
+            case 'b': case 'f': case 'p': case 'v':
+                return '1';
+            case 'c': case 'g': case 'j': case 'k': case 'q': case 's': case 'x': case 'z':
+                return '2';
+            case 'd': case 't':
+                return '3';
+            case 'l':
+                return '4';
+            case 'm': case 'n':
+                return '5';
+            case 'r':
+                return '6';
+            default:
+                return '0';
+        }
+    }
+
+    static double jaroWinkler(String s1, String s2) {
+        if (s1.equals(s2)) {
+            return 1.0;
+        }
+        int len1 = s1.length();
+        int len2 = s2.length();
+        if (len1 == 0 || len2 == 0) {
+            return 0.0;
+        }
+        int matchDistance = Math.max(0, Math.max(len1, len2) / 2 - 1);
+        boolean[] matched1 = new boolean[len1];
+        boolean[] matched2 = new boolean[len2];
+
+        int matches = 0;
+        for (int i = 0; i < len1; i++) {
+            int start = Math.max(0, i - matchDistance);
+            int end = Math.min(i + matchDistance + 1, len2);
+            for (int j = start; j < end; j++) {
+                if (!matched2[j] && s1.charAt(i) == s2.charAt(j)) {
+                    matched1[i] = true;
+                    matched2[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+
+        int transpositions = 0;
+        int k = 0;
+        for (int i = 0; i < len1; i++) {
+            if (matched1[i]) {
+                while (!matched2[k]) {
+                    k++;
+                }
+                if (s1.charAt(i) != s2.charAt(k)) {
+                    transpositions++;
+                }
+                k++;
+            }
+        }
+
+        double m = matches;
+        double jaro = (m / len1 + m / len2 + (m - transpositions / 2.0) / m) / 3.0;
+
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(len1, len2)) && s1.charAt(prefix) == s2.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1.0 - jaro);
+    }
+
+    private static String localPart(String email) {
+        int at = email.indexOf('@');
+        return at < 0 ? email : email.substring(0, at);
+    }
+}
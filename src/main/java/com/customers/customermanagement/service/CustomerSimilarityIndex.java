@@ -0,0 +1,211 @@
+package com.customers.customermanagement.service;
+
+import com.customers.customermanagement.cache.VersionedCustomer;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.dto.DuplicateCandidateDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-memory blocking index over customers. A lookup only scores the customers that share a
+ * blocking key with the probe, so its cost depends on the block sizes rather than the table size.
+ * Writes are serialized and versioned like the cache: a change older than the indexed one is ignored,
+ * and a deleted customer is remembered for {@code customer.cache.marker-retention} so a late update
+ * cannot bring it back. Lookups run without locking against the current state, which a reload
+ * replaces in one step so they never see a half-built or empty index.
+ */
+@Component
+@Profile("!snapshot")
+public class CustomerSimilarityIndex {
+
+    private final Duration markerRetention;
+    private final Clock clock;
+    private final Object reloadLock = new Object();
+    private volatile State state = new State();
+    // Writes made while a reload is loading, replayed onto the new state before it is swapped in
+    private List<Consumer<State>> pendingWrites;
+
+    public CustomerSimilarityIndex() {
+        this(Duration.ofMinutes(1), Clock.systemUTC());
+    }
+
+    @Autowired
+    public CustomerSimilarityIndex(@Value("${customer.cache.marker-retention:PT1M}") Duration markerRetention) {
+        this(markerRetention, Clock.systemUTC());
+    }
+
+    public CustomerSimilarityIndex(Duration markerRetention, Clock clock) {
+        this.markerRetention = markerRetention;
+        this.clock = clock;
+    }
+
+    public synchronized void add(VersionedCustomer customer) {
+        record(current -> current.add(customer.getCustomer(), customer.getVersion()));
+    }
+
+    public synchronized void addAll(Collection<VersionedCustomer> all) {
+        all.forEach(this::add);
+    }
+
+    // Deletes are final and use Long.MAX_VALUE, like cache invalidations
+    public synchronized void remove(UUID id, long version) {
+        long now = clock.millis();
+        record(current -> current.remove(id, version, now));
+        state.expireDeletions(now - markerRetention.toMillis());
+    }
+
+    /**
+     * Replaces the whole index with the customers returned by {@code loader}. The new state is built
+     * off to the side, lookups keep using the old one until it is swapped in. Writes made while the
+     * loader runs are applied to both and recent deletions are carried over, so a change the loader
+     * read too early is not lost.
+     */
+    public void replaceAll(Supplier<? extends Collection<VersionedCustomer>> loader) {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                pendingWrites = new ArrayList<>();
+            }
+            try {
+                State fresh = new State();
+                loader.get().forEach(customer -> fresh.add(customer.getCustomer(), customer.getVersion()));
+                synchronized (this) {
+                    state.deletions.forEach((id, deletion) -> fresh.remove(id, deletion.version, deletion.atMillis));
+                    pendingWrites.forEach(write -> write.accept(fresh));
+                    state = fresh;
+                }
+            } finally {
+                synchronized (this) {
+                    pendingWrites = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed customers scoring at least {@code threshold} against the probe, best match first.
+     * The probe itself (same ID) is never returned.
+     */
+    public List<DuplicateCandidateDTO> findCandidates(CustomerDTO probe, double threshold) {
+        State current = state;
+        Set<UUID> seen = new HashSet<>();
+        List<DuplicateCandidateDTO> candidates = new ArrayList<>();
+        for (String key : CustomerSimilarity.blockingKeys(probe)) {
+            Set<UUID> block = current.blocks.get(key);
+            if (block == null) {
+                continue;
+            }
+            for (UUID id : block) {
+                if (id.equals(probe.getId()) || !seen.add(id)) {
+                    continue;
+                }
+                IndexedCustomer other = current.customers.get(id);
+                if (other == null) {
+                    continue;
+                }
+                double score = CustomerSimilarity.score(probe, other.customer);
+                if (score >= threshold) {
+                    candidates.add(new DuplicateCandidateDTO(other.customer, score));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(DuplicateCandidateDTO::getScore).reversed());
+        return candidates;
+    }
+
+    private void record(Consumer<State> write) {
+        write.accept(state);
+        if (pendingWrites != null) {
+            pendingWrites.add(write);
+        }
+    }
+
+    private static final class State {
+        private final Map<String, Set<UUID>> blocks = new ConcurrentHashMap<>();
+        private final Map<UUID, IndexedCustomer> customers = new ConcurrentHashMap<>();
+        // Only touched by writers, which are serialized
+        private final Map<UUID, Deletion> deletions = new HashMap<>();
+
+        private void add(CustomerDTO customer, long version) {
+            if (customer.getId() == null) {
+                return;
+            }
+            Deletion deletion = deletions.get(customer.getId());
+            IndexedCustomer previous = customers.get(customer.getId());
+            if ((deletion != null && deletion.version >= version) || (previous != null && previous.version > version)) {
+                return;
+            }
+            String[] keys = CustomerSimilarity.blockingKeys(customer);
+            customers.put(customer.getId(), new IndexedCustomer(customer, version, keys));
+            if (previous != null) {
+                unlink(customer.getId(), previous.keys);
+            }
+            for (String key : keys) {
+                blocks.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(customer.getId());
+            }
+        }
+
+        private void remove(UUID id, long version, long atMillis) {
+            IndexedCustomer previous = customers.get(id);
+            if (previous != null && previous.version > version) {
+                return;
+            }
+            if (previous != null) {
+                customers.remove(id);
+                unlink(id, previous.keys);
+            }
+            deletions.merge(id, new Deletion(version, atMillis), (existing, candidate) -> existing.version >= candidate.version ? existing : candidate);
+        }
+
+        private void expireDeletions(long cutoffMillis) {
+            deletions.values().removeIf(deletion -> deletion.atMillis < cutoffMillis);
+        }
+
+        private void unlink(UUID id, String[] keys) {
+            for (String key : keys) {
+                blocks.computeIfPresent(key, (k, block) -> {
+                    block.remove(id);
+                    return block.isEmpty() ? null : block;
+                });
+            }
+        }
+    }
+
+    private static final class IndexedCustomer {
+        private final CustomerDTO customer;
+        private final long version;
+        private final String[] keys;
+
+        private IndexedCustomer(CustomerDTO customer, long version, String[] keys) {
+            this.customer = customer;
+            this.version = version;
+            this.keys = keys;
+        }
+    }
+
+    private static final class Deletion {
+        private final long version;
+        private final long atMillis;
+
+        private Deletion(long version, long atMillis) {
+            this.version = version;
+            this.atMillis = atMillis;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.customers.customermanagement.service;
+
+import com.customers.customermanagement.cache.InvalidationMessage;
+import com.customers.customermanagement.cache.InvalidationTransport;
+import com.customers.customermanagement.cache.VersionedCustomer;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.dto.DuplicateCandidateDTO;
+import com.customers.customermanagement.dto.DuplicateClusterDTO;
+import com.customers.customermanagement.entity.Customer;
+import com.customers.customermanagement.exception.CustomerNotFoundException;
+import com.customers.customermanagement.repository.CustomerRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!snapshot")
+public class DuplicateDetectionService implements DisposableBean {
+
+    // Number of customers a single fork-join leaf scans before it stops splitting
+    private static final int SCAN_CHUNK_SIZE = 512;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerSimilarityIndex similarityIndex;
+    private final InvalidationTransport invalidationTransport;
+    private final Consumer<InvalidationMessage> listener = this::onChange;
+    private final double threshold;
+
+    @Autowired
+    public DuplicateDetectionService(CustomerRepository customerRepository,
+                                     CustomerSimilarityIndex similarityIndex,
+                                     InvalidationTransport invalidationTransport,
+                                     @Value("${customer.duplicates.threshold:0.85}") double threshold) {
+        this.customerRepository = customerRepository;
+        this.similarityIndex = similarityIndex;
+        this.invalidationTransport = invalidationTransport;
+        this.threshold = threshold;
+        // Every write, from either stack and from other nodes, reaches the index through the cache invalidations
+        invalidationTransport.subscribe(listener);
+    }
+
+    // Load the live index once the application is up; customer changes keep it current afterwards
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        similarityIndex.replaceAll(this::loadAllCustomers);
+    }
+
+    @Override
+    public void destroy() {
+        invalidationTransport.unsubscribe(listener);
+    }
+
+    public List<DuplicateCandidateDTO> findDuplicates(UUID id) {
+        Customer customer = customerRepository.findByIdAndDeletedFalse(id).orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + id + " not found."));
+        return similarityIndex.findCandidates(customer.getCustomerDTO(customer), threshold);
+    }
+
+    /**
+     * Scans the whole table for duplicate clusters. Works on a private index built from a fresh read,
+     * so it does not depend on the live index being complete.
+     */
+    public List<DuplicateClusterDTO> findDuplicateClusters() {
+        List<VersionedCustomer> loaded = loadAllCustomers();
+        CustomerSimilarityIndex scanIndex = new CustomerSimilarityIndex();
+        scanIndex.addAll(loaded);
+        List<CustomerDTO> customers = loaded.stream().map(VersionedCustomer::getCustomer).collect(Collectors.toList());
+
+        List<UUID[]> pairs = ForkJoinPool.commonPool().invoke(new PairScanTask(customers, scanIndex, threshold, 0, customers.size()));
+
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (int i = 0; i < customers.size(); i++) {
+            positions.put(customers.get(i).getId(), i);
+        }
+        int[] parent = new int[customers.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (UUID[] pair : pairs) {
+            union(parent, positions.get(pair[0]), positions.get(pair[1]));
+        }
+
+        Map<Integer, List<CustomerDTO>> clusters = new HashMap<>();
+        for (int i = 0; i < customers.size(); i++) {
+            clusters.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(customers.get(i));
+        }
+        return clusters.values().stream()
+                .filter(members -> members.size() > 1)
+                .map(DuplicateClusterDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    private void onChange(InvalidationMessage message) {
+        // Versioned like the cache, so late or reordered messages never replace newer data
+        if (message.getCustomer() != null) {
+            similarityIndex.add(new VersionedCustomer(message.getCustomer(), message.getVersion()));
+        } else {
+            similarityIndex.remove(message.getCustomerId(), message.getVersion());
+        }
+    }
+
+    private List<VersionedCustomer> loadAllCustomers() {
+        return customerRepository.findAllByDeletedFalse().stream()
+                .map(customer -> new VersionedCustomer(customer.getCustomerDTO(customer), customer.getVersion()))
+                .collect(Collectors.toList());
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[rootB] = rootA;
+        }
+    }
+
+    // Splits the customer list in halves and looks up each customer's candidates in the shared index
+    private static final class PairScanTask extends RecursiveTask<List<UUID[]>> {
+        private final List<CustomerDTO> customers;
+        private final CustomerSimilarityIndex index;
+        private final double threshold;
+        private final int from;
+        private final int to;
+
+        private PairScanTask(List<CustomerDTO> customers, CustomerSimilarityIndex index, double threshold, int from, int to) {
+            this.customers = customers;
+            this.index = index;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<UUID[]> compute() {
+            if (to - from <= SCAN_CHUNK_SIZE) {
+                List<UUID[]> pairs = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    CustomerDTO customer = customers.get(i);
+                    for (DuplicateCandidateDTO candidate : index.findCandidates(customer, threshold)) {
+                        UUID other = candidate.getCustomer().getId();
+                        // Each pair is found from both sides, keep only one of them
+                        if (customer.getId().compareTo(other) < 0) {
+                            pairs.add(new UUID[]{customer.getId(), other});
+                        }
+                    }
+                }
+                return pairs;
+            }
+            int mid = (from + to) >>> 1;
+            PairScanTask left = new PairScanTask(customers, index, threshold, from, mid);
+            PairScanTask right = new PairScanTask(customers, index, threshold, mid, to);
+            left.fork();
+            List<UUID[]> pairs = right.compute();
+            pairs.addAll(left.join());
+            return pairs;
+        }
+    }
+}
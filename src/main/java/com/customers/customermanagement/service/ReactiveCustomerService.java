@@ -0,0 +1,157 @@
+package com.customers.customermanagement.service;
+
+import com.customers.customermanagement.cache.TwoTierCustomerCache;
+import com.customers.customermanagement.dto.BatchCreateResultDTO;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.entity.CustomerRecord;
+import com.customers.customermanagement.exception.CustomerAlreadyExistsException;
+import com.customers.customermanagement.exception.CustomerNotFoundException;
+import com.customers.customermanagement.repository.ReactiveCustomerRepository;
+import com.customers.customermanagement.validation.CustomerFieldValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link CustomerService}, backed by R2DBC. Writes invalidate the
+ * customer cache the same way, so nodes reading through {@link CustomerService} never keep serving
+ * state changed here.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveCustomerService {
+
+    private final ReactiveCustomerRepository customerRepository;
+    private final TwoTierCustomerCache customerCache;
+    private final int listPrefetch;
+
+    @Autowired
+    public ReactiveCustomerService(ReactiveCustomerRepository customerRepository,
+                                   TwoTierCustomerCache customerCache,
+                                   @Value("${customer.reactive.list-prefetch:256}") int listPrefetch) {
+        this.customerRepository = customerRepository;
+        this.customerCache = customerCache;
+        this.listPrefetch = listPrefetch;
+    }
+
+    public Mono<CustomerDTO> createCustomer(CustomerDTO customerDto) {
+        // Check if a customer with the same email already exists
+        return customerRepository.existsByEmailAddressAndDeletedFalse(customerDto.getEmailAddress())
+                .flatMap(exists -> exists
+                        ? Mono.<CustomerDTO>error(new CustomerAlreadyExistsException("Customer with email " + customerDto.getEmailAddress() + " already exists."))
+                        : persistNewCustomer(customerDto));
+    }
+
+    /**
+     * Same contract as {@link CustomerService#createCustomers(List)}: customers are created one after
+     * another, and invalid customers and duplicate emails are reported per position in the request.
+     */
+    public Mono<BatchCreateResultDTO> createCustomers(List<CustomerDTO> customerDtos) {
+        return Mono.defer(() -> {
+            List<CustomerDTO> created = new ArrayList<>();
+            Map<Integer, Map<String, String>> errors = new LinkedHashMap<>();
+            Set<String> batchEmails = new HashSet<>();
+            return Flux.range(0, customerDtos.size())
+                    .concatMap(i -> {
+                        CustomerDTO customerDto = customerDtos.get(i);
+                        Map<String, String> fieldErrors = CustomerFieldValidator.validate(customerDto);
+                        if (!fieldErrors.isEmpty()) {
+                            errors.put(i, fieldErrors);
+                            return Mono.<Void>empty();
+                        }
+                        Map<String, String> duplicate = Map.of("emailAddress", "Customer with email " + customerDto.getEmailAddress() + " already exists.");
+                        if (!batchEmails.add(customerDto.getEmailAddress())) {
+                            errors.put(i, duplicate);
+                            return Mono.<Void>empty();
+                        }
+                        return customerRepository.existsByEmailAddressAndDeletedFalse(customerDto.getEmailAddress())
+                                .flatMap(exists -> exists
+                                        ? Mono.<CustomerDTO>fromRunnable(() -> errors.put(i, duplicate))
+                                        : persistNewCustomer(customerDto).doOnNext(created::add))
+                                .then();
+                    })
+                    .then(Mono.fromSupplier(() -> new BatchCreateResultDTO(created, errors)));
+        });
+    }
+
+    public Mono<CustomerDTO> getCustomerById(UUID id) {
+        return customerRepository.findByIdAndDeletedFalse(id)
+                .switchIfEmpty(Mono.error(() -> new CustomerNotFoundException("Customer with ID " + id + " not found.")))
+                .map(this::convertToDTO);
+    }
+
+    public Flux<CustomerDTO> getAllCustomers() {
+        // Rows are requested from the database in batches as the subscriber drains them
+        return customerRepository.findAllByDeletedFalse()
+                .limitRate(listPrefetch)
+                .map(this::convertToDTO);
+    }
+
+    public Mono<CustomerDTO> updateCustomer(UUID id, CustomerDTO customerDto) {
+        return customerRepository.findByIdAndDeletedFalse(id)
+                .switchIfEmpty(Mono.error(() -> new CustomerNotFoundException("Customer with ID " + id + " not found.")))
+                .flatMap(existingCustomer -> {
+                    existingCustomer.setFirstName(customerDto.getFirstName());
+                    existingCustomer.setMiddleName(customerDto.getMiddleName());
+                    existingCustomer.setLastName(customerDto.getLastName());
+                    existingCustomer.setEmailAddress(customerDto.getEmailAddress());
+                    existingCustomer.setPhoneNumber(customerDto.getPhoneNumber());
+                    return customerRepository.save(existingCustomer);
+                })
+                .map(this::publishChange);
+    }
+
+    public Mono<Boolean> deleteCustomer(UUID id) {
+        // Tombstone the row in a single statement, TombstoneCompactor removes it later
+        return customerRepository.softDeleteById(id, Instant.now())
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(true)
+                        : Mono.error(new CustomerNotFoundException("Customer with ID " + id + " not found.")))
+                .doOnNext(deleted -> customerCache.invalidate(id, Long.MAX_VALUE));
+    }
+
+    private Mono<CustomerDTO> persistNewCustomer(CustomerDTO customerDto) {
+        return customerRepository.save(convertToRecord(customerDto).markNew())
+                .map(this::publishChange);
+    }
+
+    private CustomerDTO publishChange(CustomerRecord savedCustomer) {
+        CustomerDTO savedDto = convertToDTO(savedCustomer);
+        customerCache.invalidate(savedDto.getId(), savedCustomer.getVersion(), savedDto);
+        return savedDto;
+    }
+
+    private CustomerDTO convertToDTO(CustomerRecord customer) {
+        return new CustomerDTO(
+                customer.getId(),
+                customer.getPhoneNumber(),
+                customer.getFirstName(),
+                customer.getMiddleName(),
+                customer.getLastName(),
+                customer.getEmailAddress()
+        );
+    }
+
+    private CustomerRecord convertToRecord(CustomerDTO customerDto) {
+        return new CustomerRecord(
+                UUID.randomUUID(),
+                customerDto.getPhoneNumber(),
+                customerDto.getFirstName(),
+                customerDto.getMiddleName(),
+                customerDto.getLastName(),
+                customerDto.getEmailAddress()
+        );
+    }
+}
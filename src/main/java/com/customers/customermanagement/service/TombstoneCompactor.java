@@ -0,0 +1,146 @@
+package com.customers.customermanagement.service;
+
+import com.customers.customermanagement.repository.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Purges soft-deleted customers in the background. Each run deletes tombstones older than the
+ * retention period in batches, pausing between batches so compaction never competes with traffic
+ * for long stretches, and stops after a fixed number of batches per run. Runs execute on a dedicated
+ * thread so the pauses never hold the shared scheduler thread used by the other scheduled tasks.
+ */
+@Component
+@Profile("!snapshot")
+public class TombstoneCompactor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TombstoneCompactor.class);
+
+    private final CustomerRepository customerRepository;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pauseBetweenBatches;
+    private final Duration retention;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter purged;
+
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tombstone-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public TombstoneCompactor(CustomerRepository customerRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${customer.compaction.batch-size:500}") int batchSize,
+                              @Value("${customer.compaction.max-batches-per-run:100}") int maxBatchesPerRun,
+                              @Value("${customer.compaction.pause-between-batches:PT0.2S}") Duration pauseBetweenBatches,
+                              @Value("${customer.compaction.retention:PT1H}") Duration retention) {
+        this.customerRepository = customerRepository;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.retention = retention;
+
+        Gauge.builder("customer.tombstones.backlog", backlog, AtomicLong::get)
+                .description("Soft-deleted customers waiting to be purged")
+                .register(meterRegistry);
+        this.purged = Counter.builder("customer.tombstones.purged")
+                .description("Soft-deleted customers purged by the compactor")
+                .register(meterRegistry);
+    }
+
+    // Soft deletes free the email of the tombstone they write; this catches up tombstones written before they did
+    @EventListener(ApplicationReadyEvent.class)
+    public void releaseTombstoneEmails() {
+        int released = customerRepository.releaseTombstoneEmails();
+        if (released > 0) {
+            log.info("Released the email addresses of {} soft-deleted customers", released);
+        }
+    }
+
+    // Runs inside the off-peak window configured by customer.compaction.cron, skipped while a run is still going
+    @Scheduled(cron = "${customer.compaction.cron:0 */10 1-5 * * *}")
+    public void scheduleCompaction() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        compactionExecutor.execute(() -> {
+            try {
+                compact();
+            } catch (RuntimeException e) {
+                log.warn("Tombstone compaction failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public int compact() {
+        Instant cutoff = Instant.now().minus(retention);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<UUID> ids = customerRepository.findTombstoneIds(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            customerRepository.deleteAllByIdInBatch(ids);
+            total += ids.size();
+            purged.increment(ids.size());
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        refreshBacklog();
+        if (total > 0) {
+            log.info("Purged {} soft-deleted customers, {} tombstones remaining", total, backlog.get());
+        }
+        return total;
+    }
+
+    // Keeps the backlog gauge current between compaction windows
+    @Scheduled(fixedDelayString = "${customer.compaction.backlog-refresh:PT1M}")
+    public void refreshBacklog() {
+        backlog.set(customerRepository.countByDeletedTrue());
+    }
+
+    @Override
+    public void destroy() {
+        // Interrupts a paused run, which then stops after its current batch
+        compactionExecutor.shutdownNow();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenBatches.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
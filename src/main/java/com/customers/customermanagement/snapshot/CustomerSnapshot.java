@@ -0,0 +1,135 @@
+package com.customers.customermanagement.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only view of a snapshot file mapped into memory. Lookups probe the mapped indexes directly
+ * and return the stored JSON as a slice of the mapping, nothing is copied onto the heap.
+ */
+public final class CustomerSnapshot {
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int idSlots;
+    private final int emailSlots;
+    private final int idIndexOffset;
+    private final int emailIndexOffset;
+    private final Instant createdAt;
+
+    private CustomerSnapshot(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < SnapshotFormat.HEADER_SIZE
+                || buffer.getInt(SnapshotFormat.MAGIC_OFFSET) != SnapshotFormat.MAGIC
+                || buffer.getInt(SnapshotFormat.FORMAT_VERSION_OFFSET) != SnapshotFormat.FORMAT_VERSION) {
+            throw new IOException("Not a customer snapshot file or unsupported format version");
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(SnapshotFormat.COUNT_OFFSET);
+        this.idSlots = buffer.getInt(SnapshotFormat.ID_SLOTS_OFFSET);
+        this.emailSlots = buffer.getInt(SnapshotFormat.EMAIL_SLOTS_OFFSET);
+        this.idIndexOffset = (int) buffer.getLong(SnapshotFormat.ID_INDEX_OFFSET);
+        this.emailIndexOffset = (int) buffer.getLong(SnapshotFormat.EMAIL_INDEX_OFFSET);
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(SnapshotFormat.CREATED_AT_OFFSET));
+    }
+
+    // The mapping stays valid after the channel is closed and is released when the snapshot is collected
+    public static CustomerSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CustomerSnapshot(mapped);
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the customer's JSON, or null if the snapshot has no customer with this ID.
+     */
+    public ByteBuffer findJsonById(UUID id) {
+        int recordOffset = recordOffset(id);
+        return recordOffset == 0 ? null : json(recordOffset);
+    }
+
+    /**
+     * Returns the entity version stored for the customer, or -1 if the snapshot does not contain it.
+     */
+    public long version(UUID id) {
+        int entry = idEntry(id);
+        return entry < 0 ? -1 : buffer.getLong(entry + 24);
+    }
+
+    /**
+     * Returns the ID of the customer with exactly this email address, or null. Like the database's
+     * unique constraint, the match is case-sensitive, so case variants stay distinct customers.
+     */
+    public UUID findIdByEmail(String email) {
+        byte[] key = SnapshotFormat.emailBytes(email);
+        long hash = SnapshotFormat.hash(key);
+        int slot = (int) (hash & (emailSlots - 1));
+        while (true) {
+            int entry = emailIndexOffset + slot * SnapshotFormat.EMAIL_SLOT_SIZE;
+            int recordOffset = (int) buffer.getLong(entry + 8);
+            if (recordOffset == 0) {
+                return null;
+            }
+            if (buffer.getLong(entry) == hash && emailEquals(recordOffset, key)) {
+                return new UUID(buffer.getLong(recordOffset), buffer.getLong(recordOffset + 8));
+            }
+            slot = (slot + 1) & (emailSlots - 1);
+        }
+    }
+
+    private int recordOffset(UUID id) {
+        int entry = idEntry(id);
+        return entry < 0 ? 0 : (int) buffer.getLong(entry + 16);
+    }
+
+    private int idEntry(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int slot = (int) (SnapshotFormat.hash(id) & (idSlots - 1));
+        while (true) {
+            int entry = idIndexOffset + slot * SnapshotFormat.ID_SLOT_SIZE;
+            if (buffer.getLong(entry + 16) == 0) {
+                return -1;
+            }
+            if (buffer.getLong(entry) == msb && buffer.getLong(entry + 8) == lsb) {
+                return entry;
+            }
+            slot = (slot + 1) & (idSlots - 1);
+        }
+    }
+
+    private boolean emailEquals(int recordOffset, byte[] key) {
+        int emailOffset = recordOffset + 24;
+        int length = buffer.getInt(emailOffset);
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(emailOffset + 4 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ByteBuffer json(int recordOffset) {
+        int emailOffset = recordOffset + 24;
+        int jsonOffset = emailOffset + 4 + buffer.getInt(emailOffset);
+        int length = buffer.getInt(jsonOffset);
+        return buffer.slice(jsonOffset + 4, length).asReadOnlyBuffer();
+    }
+}
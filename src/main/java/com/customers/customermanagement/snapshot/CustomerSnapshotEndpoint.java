@@ -0,0 +1,48 @@
+package com.customers.customermanagement.snapshot;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * {@code POST /actuator/customersnapshot} exports the live customers to the configured snapshot
+ * path. Setting {@code customer.snapshot.build-cron} also runs the export on a schedule; it is off by
+ * default and should be enabled on one designated writer only, as every node with it rewrites the same
+ * file. Only present on writer nodes: a read node's own database is not the source of truth and must never
+ * overwrite the shared snapshot.
+ */
+@Component
+@Endpoint(id = "customersnapshot")
+@Profile("!snapshot")
+public class CustomerSnapshotEndpoint {
+
+    private final CustomerSnapshotWriter snapshotWriter;
+    private final Path snapshotPath;
+
+    @Autowired
+    public CustomerSnapshotEndpoint(CustomerSnapshotWriter snapshotWriter,
+                                    @Value("${customer.snapshot.path:./data/customer-snapshot.bin}") String snapshotPath) {
+        this.snapshotWriter = snapshotWriter;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    @WriteOperation
+    public Map<String, Object> build() throws IOException {
+        int count = snapshotWriter.write(snapshotPath);
+        return Map.of("path", snapshotPath.toAbsolutePath().toString(), "customers", count);
+    }
+
+    @Scheduled(cron = "${customer.snapshot.build-cron:-}")
+    public void scheduledBuild() throws IOException {
+        snapshotWriter.write(snapshotPath);
+    }
+}
@@ -0,0 +1,150 @@
+package com.customers.customermanagement.snapshot;
+
+import com.customers.customermanagement.cache.InvalidationMessage;
+import com.customers.customermanagement.cache.InvalidationTransport;
+import com.customers.customermanagement.cache.LocalInvalidationTransport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Serves customer lookups on read-only nodes from the mapped snapshot plus the deltas published
+ * since it was built. A newer snapshot file is picked up by polling and swapped in atomically;
+ * in-flight lookups finish on the snapshot they started with.
+ *
+ * <p>Without a cross-process {@link InvalidationTransport} no deltas reach a separate read node, and
+ * lookups are at most one build interval plus one reload interval behind the writer.
+ */
+@Component
+@Profile("snapshot")
+public class CustomerSnapshotStore implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerSnapshotStore.class);
+
+    private final ObjectMapper objectMapper;
+    private final InvalidationTransport invalidationTransport;
+    private final Consumer<InvalidationMessage> listener = this::onChange;
+    private final Path snapshotPath;
+    private final SnapshotOverlay overlay = new SnapshotOverlay();
+    private final AtomicReference<CustomerSnapshot> current = new AtomicReference<>();
+    private volatile FileTime loadedModifiedTime;
+
+    @Autowired
+    public CustomerSnapshotStore(ObjectMapper objectMapper,
+                                 InvalidationTransport invalidationTransport,
+                                 @Value("${customer.snapshot.path:./data/customer-snapshot.bin}") String snapshotPath) {
+        this.objectMapper = objectMapper;
+        this.invalidationTransport = invalidationTransport;
+        this.snapshotPath = Paths.get(snapshotPath);
+        if (invalidationTransport instanceof LocalInvalidationTransport) {
+            log.warn("Snapshot node uses the in-process invalidation transport: changes made by other processes only "
+                    + "become visible with the next snapshot build (customer.snapshot.build-cron)");
+        }
+        // Subscribe before the first load so no change between build and load is missed
+        invalidationTransport.subscribe(listener);
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${customer.snapshot.reload-interval:PT30S}")
+    public void reload() {
+        try {
+            if (!Files.exists(snapshotPath)) {
+                log.warn("Customer snapshot {} does not exist yet", snapshotPath);
+                return;
+            }
+            FileTime modifiedTime = Files.getLastModifiedTime(snapshotPath);
+            if (modifiedTime.equals(loadedModifiedTime)) {
+                return;
+            }
+            CustomerSnapshot snapshot = CustomerSnapshot.open(snapshotPath);
+            current.set(snapshot);
+            loadedModifiedTime = modifiedTime;
+            overlay.prune(snapshot);
+            log.info("Loaded customer snapshot of {} customers built at {}, {} newer changes pending",
+                    snapshot.count(), snapshot.createdAt(), overlay.size());
+        } catch (IOException e) {
+            // Keep serving the previous snapshot
+            log.warn("Could not load customer snapshot {}", snapshotPath, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        invalidationTransport.unsubscribe(listener);
+    }
+
+    public boolean isLoaded() {
+        return current.get() != null;
+    }
+
+    /**
+     * Returns the customer's JSON, or null if the customer does not exist or has been deleted.
+     */
+    public ByteBuffer findJsonById(UUID id) {
+        CustomerSnapshot snapshot = current.get();
+        SnapshotOverlay.Entry entry = overlay.get(id);
+        if (entry != null) {
+            return entry.isDeleted() ? null : ByteBuffer.wrap(entry.getJson()).asReadOnlyBuffer();
+        }
+        return snapshot != null ? snapshot.findJsonById(id) : null;
+    }
+
+    public ByteBuffer findJsonByEmail(String email) {
+        CustomerSnapshot snapshot = current.get();
+        // A changed customer may have moved to this address or away from it since the snapshot was built
+        UUID id = overlay.findIdByEmail(email);
+        if (id == null || !hasEmail(overlay.get(id), email)) {
+            id = snapshot != null ? snapshot.findIdByEmail(email) : null;
+        }
+        if (id == null) {
+            return null;
+        }
+        SnapshotOverlay.Entry entry = overlay.get(id);
+        if (entry != null) {
+            return hasEmail(entry, email) ? ByteBuffer.wrap(entry.getJson()).asReadOnlyBuffer() : null;
+        }
+        return snapshot.findJsonById(id);
+    }
+
+    private void onChange(InvalidationMessage message) {
+        UUID id = message.getCustomerId();
+        if (id == null) {
+            return;
+        }
+        if (message.getCustomer() == null) {
+            overlay.delete(id, message.getVersion());
+            return;
+        }
+        CustomerSnapshot snapshot = current.get();
+        if (snapshot != null && snapshot.version(id) >= message.getVersion()) {
+            return;
+        }
+        try {
+            overlay.put(id, message.getVersion(), objectMapper.writeValueAsBytes(message.getCustomer()), message.getCustomer().getEmailAddress());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean hasEmail(SnapshotOverlay.Entry entry, String email) {
+        return entry != null && !entry.isDeleted() && email.equals(entry.getEmail());
+    }
+}
@@ -0,0 +1,122 @@
+package com.customers.customermanagement.snapshot;
+
+import com.customers.customermanagement.entity.Customer;
+import com.customers.customermanagement.repository.CustomerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Exports the live customers into a snapshot file (see {@link SnapshotFormat}). The file is written
+ * next to the target and moved into place atomically, so readers never see a partial snapshot.
+ */
+@Component
+@Profile("!snapshot")
+public class CustomerSnapshotWriter {
+
+    private final CustomerRepository customerRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CustomerSnapshotWriter(CustomerRepository customerRepository, ObjectMapper objectMapper) {
+        this.customerRepository = customerRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public int write(Path target) throws IOException {
+        // Stamped before the read, the snapshot holds no change made after this time
+        long createdAtMillis = System.currentTimeMillis();
+        List<Customer> customers = customerRepository.findAllByDeletedFalse();
+        int count = customers.size();
+        byte[][] emails = new byte[count][];
+        byte[][] jsons = new byte[count][];
+
+        int idSlots = SnapshotFormat.slotCount(count);
+        int emailSlots = SnapshotFormat.slotCount(count);
+        long idIndexOffset = SnapshotFormat.HEADER_SIZE;
+        long emailIndexOffset = idIndexOffset + (long) idSlots * SnapshotFormat.ID_SLOT_SIZE;
+        long recordsOffset = emailIndexOffset + (long) emailSlots * SnapshotFormat.EMAIL_SLOT_SIZE;
+
+        long size = recordsOffset;
+        for (int i = 0; i < count; i++) {
+            Customer customer = customers.get(i);
+            emails[i] = SnapshotFormat.emailBytes(customer.getEmailAddress());
+            jsons[i] = objectMapper.writeValueAsBytes(customer.getCustomerDTO(customer));
+            size += 3L * Long.BYTES + Integer.BYTES + emails[i].length + Integer.BYTES + jsons[i].length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of " + count + " customers exceeds the 2 GB single-mapping limit");
+        }
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SnapshotFormat.MAGIC_OFFSET, SnapshotFormat.MAGIC);
+                buffer.putInt(SnapshotFormat.FORMAT_VERSION_OFFSET, SnapshotFormat.FORMAT_VERSION);
+                buffer.putInt(SnapshotFormat.COUNT_OFFSET, count);
+                buffer.putInt(SnapshotFormat.ID_SLOTS_OFFSET, idSlots);
+                buffer.putInt(SnapshotFormat.EMAIL_SLOTS_OFFSET, emailSlots);
+                buffer.putLong(SnapshotFormat.CREATED_AT_OFFSET, createdAtMillis);
+                buffer.putLong(SnapshotFormat.ID_INDEX_OFFSET, idIndexOffset);
+                buffer.putLong(SnapshotFormat.EMAIL_INDEX_OFFSET, emailIndexOffset);
+                buffer.putLong(SnapshotFormat.RECORDS_OFFSET, recordsOffset);
+
+                int position = (int) recordsOffset;
+                for (int i = 0; i < count; i++) {
+                    Customer customer = customers.get(i);
+                    long msb = customer.getId().getMostSignificantBits();
+                    long lsb = customer.getId().getLeastSignificantBits();
+                    int recordOffset = position;
+
+                    buffer.putLong(position, msb);
+                    buffer.putLong(position + 8, lsb);
+                    buffer.putLong(position + 16, customer.getVersion());
+                    position += 24;
+                    buffer.putInt(position, emails[i].length);
+                    buffer.put(position + 4, emails[i]);
+                    position += 4 + emails[i].length;
+                    buffer.putInt(position, jsons[i].length);
+                    buffer.put(position + 4, jsons[i]);
+                    position += 4 + jsons[i].length;
+
+                    int idSlot = (int) (SnapshotFormat.hash(customer.getId()) & (idSlots - 1));
+                    while (buffer.getLong((int) (idIndexOffset + (long) idSlot * SnapshotFormat.ID_SLOT_SIZE) + 16) != 0) {
+                        idSlot = (idSlot + 1) & (idSlots - 1);
+                    }
+                    int idEntry = (int) (idIndexOffset + (long) idSlot * SnapshotFormat.ID_SLOT_SIZE);
+                    buffer.putLong(idEntry, msb);
+                    buffer.putLong(idEntry + 8, lsb);
+                    buffer.putLong(idEntry + 16, recordOffset);
+                    buffer.putLong(idEntry + 24, customer.getVersion());
+
+                    long emailHash = SnapshotFormat.hash(emails[i]);
+                    int emailSlot = (int) (emailHash & (emailSlots - 1));
+                    while (buffer.getLong((int) (emailIndexOffset + (long) emailSlot * SnapshotFormat.EMAIL_SLOT_SIZE) + 8) != 0) {
+                        emailSlot = (emailSlot + 1) & (emailSlots - 1);
+                    }
+                    int emailEntry = (int) (emailIndexOffset + (long) emailSlot * SnapshotFormat.EMAIL_SLOT_SIZE);
+                    buffer.putLong(emailEntry, emailHash);
+                    buffer.putLong(emailEntry + 8, recordOffset);
+                }
+                buffer.force();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return count;
+    }
+}
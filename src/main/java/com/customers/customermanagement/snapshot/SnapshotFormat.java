@@ -0,0 +1,77 @@
+package com.customers.customermanagement.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Layout of a customer snapshot file. All numbers are big-endian.
+ *
+ * <pre>
+ * header      64 bytes   magic, format version, record count, slot counts, creation time, section offsets
+ * id index    32 bytes per slot: UUID msb, UUID lsb, record offset (0 = empty slot), entity version
+ * email index 16 bytes per slot: hash of the exact email address, record offset (0 = empty slot)
+ * records     UUID msb, UUID lsb, entity version, email length + UTF-8 email, JSON length + UTF-8 JSON
+ * </pre>
+ *
+ * Both indexes are open-addressing tables with linear probing and a power-of-two slot count sized
+ * to stay at most half full. The JSON of each record is the serialized {@code CustomerDTO}, served as is.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x43534E50; // "CSNP"
+    // 2: email keys are the exact stored address, matching the case-sensitive unique constraint
+    static final int FORMAT_VERSION = 2;
+
+    static final int HEADER_SIZE = 64;
+    static final int ID_SLOT_SIZE = 32;
+    static final int EMAIL_SLOT_SIZE = 16;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int FORMAT_VERSION_OFFSET = 4;
+    static final int COUNT_OFFSET = 8;
+    static final int ID_SLOTS_OFFSET = 12;
+    static final int EMAIL_SLOTS_OFFSET = 16;
+    static final int CREATED_AT_OFFSET = 24;
+    static final int ID_INDEX_OFFSET = 32;
+    static final int EMAIL_INDEX_OFFSET = 40;
+    static final int RECORDS_OFFSET = 48;
+
+    private SnapshotFormat() {
+    }
+
+    static int slotCount(int entries) {
+        int slots = 16;
+        while (slots < entries * 2) {
+            slots <<= 1;
+        }
+        return slots;
+    }
+
+    // Murmur3 finalizer over both halves, UUIDv4 bits are random but the version nibble is not
+    static long hash(UUID id) {
+        return mix(id.getMostSignificantBits() * 31 + id.getLeastSignificantBits());
+    }
+
+    // 64-bit FNV-1a over the address bytes
+    static long hash(byte[] email) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : email) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    static byte[] emailBytes(String email) {
+        return email.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
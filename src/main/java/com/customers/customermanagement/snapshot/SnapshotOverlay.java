@@ -0,0 +1,84 @@
+package com.customers.customermanagement.snapshot;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Changes received since the current snapshot was built. Entries are versioned like the snapshot
+ * records, so a late or duplicated delta never replaces a newer one. Swapping in a snapshot drops
+ * every entry it covers by version, so the overlay only holds changes newer than the snapshot.
+ */
+class SnapshotOverlay {
+
+    static final class Entry {
+        private final long version;
+        private final byte[] json;
+        private final String email;
+
+        private Entry(long version, byte[] json, String email) {
+            this.version = version;
+            this.json = json;
+            this.email = email;
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        // Null for a deleted customer
+        byte[] getJson() {
+            return json;
+        }
+
+        String getEmail() {
+            return email;
+        }
+
+        boolean isDeleted() {
+            return json == null;
+        }
+    }
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, UUID> idsByEmail = new ConcurrentHashMap<>();
+
+    void put(UUID id, long version, byte[] json, String email) {
+        Entry update = new Entry(version, json, email);
+        Entry applied = entries.merge(id, update, (existing, candidate) -> existing.version > candidate.version ? existing : candidate);
+        if (applied == update && update.email != null) {
+            idsByEmail.put(update.email, id);
+        }
+    }
+
+    void delete(UUID id, long version) {
+        put(id, version, null, null);
+    }
+
+    Entry get(UUID id) {
+        return entries.get(id);
+    }
+
+    UUID findIdByEmail(String email) {
+        return idsByEmail.get(email);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops what {@code snapshot} already reflects: updates it holds at the same or a newer version, and
+     * deletes of customers it no longer contains. Versions come from the database, so neither the time
+     * the snapshot was read nor the clocks of the writer and this node matter.
+     */
+    void prune(CustomerSnapshot snapshot) {
+        entries.forEach((id, entry) -> {
+            long snapshotVersion = snapshot.version(id);
+            boolean covered = entry.isDeleted() ? snapshotVersion < 0 : snapshotVersion >= entry.version;
+            if (covered && entries.remove(id, entry) && entry.email != null) {
+                idsByEmail.remove(entry.email, id);
+            }
+        });
+    }
+}
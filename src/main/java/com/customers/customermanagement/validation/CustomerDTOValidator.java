@@ -0,0 +1,24 @@
+package com.customers.customermanagement.validation;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Spring {@link Validator} adapter over {@link CustomerFieldValidator}, installed for request bodies
+ * by {@link CustomerValidationAdvice}.
+ */
+@Component
+public class CustomerDTOValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return CustomerDTO.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        CustomerFieldValidator.validate((CustomerDTO) target).forEach((field, message) -> errors.rejectValue(field, "invalid", message));
+    }
+}
@@ -0,0 +1,195 @@
+package com.customers.customermanagement.validation;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hand-written checks for the constraints declared on {@link CustomerDTO}. They replace reflective
+ * Bean Validation on the request path: a valid customer is checked without allocating, and only a
+ * failing one builds an error map.
+ */
+public final class CustomerFieldValidator {
+
+    public static final String PHONE_MANDATORY = "Phone number is mandatory";
+    public static final String PHONE_INVALID = "Phone number must be exactly 10 digits";
+    public static final String FIRST_NAME_MANDATORY = "First name is mandatory";
+    public static final String LAST_NAME_MANDATORY = "Last name is mandatory";
+    public static final String EMAIL_MANDATORY = "Email address is mandatory";
+    public static final String EMAIL_INVALID = "Email should be valid";
+    public static final String CUSTOMER_MANDATORY = "Customer is mandatory";
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 255;
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    private CustomerFieldValidator() {
+    }
+
+    /**
+     * Returns field name to message for every violated constraint, or an empty immutable map if the
+     * customer is valid. A null customer, e.g. a null element of a batch, is reported under "customer".
+     */
+    public static Map<String, String> validate(CustomerDTO customer) {
+        if (customer == null) {
+            return Map.of("customer", CUSTOMER_MANDATORY);
+        }
+        String phoneError = phoneNumberError(customer.getPhoneNumber());
+        String firstNameError = isBlank(customer.getFirstName()) ? FIRST_NAME_MANDATORY : null;
+        String lastNameError = isBlank(customer.getLastName()) ? LAST_NAME_MANDATORY : null;
+        String emailError = emailAddressError(customer.getEmailAddress());
+        if (phoneError == null && firstNameError == null && lastNameError == null && emailError == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        putIfPresent(errors, "phoneNumber", phoneError);
+        putIfPresent(errors, "firstName", firstNameError);
+        putIfPresent(errors, "lastName", lastNameError);
+        putIfPresent(errors, "emailAddress", emailError);
+        return errors;
+    }
+
+    public static String phoneNumberError(String phoneNumber) {
+        if (isBlank(phoneNumber)) {
+            return PHONE_MANDATORY;
+        }
+        return isValidPhoneNumber(phoneNumber) ? null : PHONE_INVALID;
+    }
+
+    public static String emailAddressError(String emailAddress) {
+        if (isBlank(emailAddress)) {
+            return EMAIL_MANDATORY;
+        }
+        return isValidEmail(emailAddress) ? null : EMAIL_INVALID;
+    }
+
+    public static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Equivalent to the ^[0-9]{10}$ pattern on CustomerDTO
+    public static boolean isValidPhoneNumber(String phoneNumber) {
+        if (phoneNumber.length() != 10) {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            char c = phoneNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Follows the rules of Hibernate Validator's {@code @Email}: a dot-atom local part and a domain
+     * of hostname labels or an IP literal. Quoted local parts are not accepted.
+     */
+    public static boolean isValidEmail(String email) {
+        int at = email.lastIndexOf('@');
+        if (at <= 0 || at == email.length() - 1) {
+            return false;
+        }
+        return isValidLocalPart(email, 0, at) && isValidDomain(email, at + 1, email.length());
+    }
+
+    private static boolean isValidLocalPart(String email, int from, int to) {
+        if (to - from > MAX_LOCAL_PART_LENGTH || email.charAt(from) == '.' || email.charAt(to - 1) == '.') {
+            return false;
+        }
+        char previous = 0;
+        for (int i = from; i < to; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (previous == '.') {
+                    return false;
+                }
+            } else if (!isAtomChar(c)) {
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+
+    private static boolean isValidDomain(String email, int from, int to) {
+        if (to - from > MAX_DOMAIN_LENGTH) {
+            return false;
+        }
+        if (email.charAt(from) == '[') {
+            return email.charAt(to - 1) == ']' && isIpLiteral(email, from + 1, to - 1);
+        }
+        int labelStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || email.charAt(i) == '.') {
+                if (!isValidLabel(email, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidLabel(String email, int from, int to) {
+        int length = to - from;
+        if (length == 0 || length > MAX_LABEL_LENGTH || email.charAt(from) == '-' || email.charAt(to - 1) == '-') {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = email.charAt(i);
+            if (!(isAsciiLetterOrDigit(c) || c == '-' || c >= 0x80)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Accepts the dotted IPv4 form or a hex/colon IPv6 form inside the brackets
+    private static boolean isIpLiteral(String email, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = email.charAt(i);
+            if (!(isAsciiLetterOrDigit(c) || c == '.' || c == ':')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAtomChar(char c) {
+        if (isAsciiLetterOrDigit(c) || c >= 0x80) {
+            return true;
+        }
+        switch (c) {
+            case '!': case '#': case '$': case '%': case '&': case '\'': case '*': case '+': case '-':
+            case '/': case '=': case '?': case '^': case '_': case '`': case '{': case '|': case '}': case '~':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static void putIfPresent(Map<String, String> errors, String field, String message) {
+        if (message != null) {
+            errors.put(field, message);
+        }
+    }
+}
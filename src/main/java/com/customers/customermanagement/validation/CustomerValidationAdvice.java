@@ -0,0 +1,31 @@
+package com.customers.customermanagement.validation;
+
+import com.customers.customermanagement.controller.CustomerController;
+import com.customers.customermanagement.controller.ReactiveCustomerController;
+import com.customers.customermanagement.dto.CustomerDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+
+/**
+ * Replaces Bean Validation with {@link CustomerDTOValidator} for {@code @Valid CustomerDTO} request
+ * bodies, so invalid input is still reported through the usual binding exceptions.
+ */
+@ControllerAdvice(assignableTypes = {CustomerController.class, ReactiveCustomerController.class})
+public class CustomerValidationAdvice {
+
+    private final CustomerDTOValidator customerDTOValidator;
+
+    @Autowired
+    public CustomerValidationAdvice(CustomerDTOValidator customerDTOValidator) {
+        this.customerDTOValidator = customerDTOValidator;
+    }
+
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        if (binder.getTarget() instanceof CustomerDTO) {
+            binder.setValidator(customerDTOValidator);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.customers.customermanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares how the servlet and the reactive stack hold up as the number of concurrent client
+ * connections grows. It is a standalone program rather than a test, start the application with
+ * the profile under test and then run:
+ *
+ * <pre>
+ * java -cp target/test-classes com.customers.customermanagement.benchmark.ConnectionScalabilityBenchmark \
+ *     http://localhost:8080 100,500,1000,2000 20
+ * </pre>
+ *
+ * Each concurrency level keeps that many connections busy on {@code GET /api/customers/{id}} for
+ * the given number of seconds and reports throughput, latency percentiles and failed requests.
+ */
+public class ConnectionScalabilityBenchmark {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int[] levels = Arrays.stream((args.length > 1 ? args[1] : "100,500,1000,2000").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 20);
+
+        String customerId = createCustomer(baseUrl);
+        System.out.printf("%-12s %12s %10s %10s %10s %10s%n", "connections", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (int connections : levels) {
+            run(baseUrl + "/api/customers/" + customerId, connections, duration);
+        }
+    }
+
+    private static String createCustomer(String baseUrl) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            return createCustomer(client, baseUrl);
+        }
+    }
+
+    private static String createCustomer(HttpClient client, String baseUrl) throws Exception {
+        String suffix = Long.toString(System.nanoTime());
+        String body = "{\"firstName\":\"Bench\",\"lastName\":\"Mark\",\"phoneNumber\":\"1234567890\","
+                + "\"emailAddress\":\"bench." + suffix + "@example.com\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/customers"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ID_PATTERN.matcher(response.body());
+        if (response.statusCode() != 201 || !matcher.find()) {
+            throw new IllegalStateException("Could not create benchmark customer: " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static void run(String url, int connections, Duration duration) {
+        // One shared HTTP/1.1 client: its pool opens one connection per concurrent request, so every worker
+        // holds its own connection without a selector thread per client. Closed after the level so no
+        // connection carries over to the next one
+        AtomicLong errors = new AtomicLong();
+        List<long[]> perWorkerLatencies = Collections.synchronizedList(new ArrayList<>());
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                executor.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    perWorkerLatencies.add(Arrays.copyOf(latencies, count));
+                });
+            }
+        }
+
+        long[] all = perWorkerLatencies.stream()
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("%-12d %12.0f %10.1f %10.1f %10.1f %10d%n",
+                connections,
+                all.length / seconds,
+                percentile(all, 0.50),
+                percentile(all, 0.99),
+                all.length == 0 ? 0.0 : all[all.length - 1] / 1e6,
+                errors.get());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,80 @@
+package com.customers.customermanagement.benchmark;
+
+import com.customers.customermanagement.diagnostics.ContinuousRecording;
+import com.customers.customermanagement.diagnostics.DiagnosticsInterceptor;
+import com.customers.customermanagement.diagnostics.SlowRequestTracker;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Measures what the diagnostics add to each customer API request: the interceptor, the JFR request
+ * event and the slow-request tracker, with the continuous recording running as in production. It
+ * is a standalone program rather than a test:
+ *
+ * <pre>
+ * java -cp target/test-classes:... com.customers.customermanagement.benchmark.DiagnosticsOverheadBenchmark 2000000 7
+ * </pre>
+ *
+ * Reports the median nanoseconds per request over the given number of rounds for three setups:
+ * diagnostics disabled (the interceptor is not registered), enabled without a recording, and enabled
+ * with the continuous recording. One mock request and response are reused for every iteration so
+ * their allocation stays out of the timed loop. Service and repository proxies are not included.
+ */
+public class DiagnosticsOverheadBenchmark {
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+        DiagnosticsInterceptor interceptor = new DiagnosticsInterceptor(new SlowRequestTracker(Duration.ofMinutes(10), 50));
+        String path = "/api/customers/" + UUID.randomUUID();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        double disabled = measure(null, request, response, iterations, rounds);
+        double enabledIdle = measure(interceptor, request, response, iterations, rounds);
+        ContinuousRecording recording = new ContinuousRecording(Duration.ofMinutes(30), DataSize.ofMegabytes(100));
+        recording.start();
+        double enabledRecording;
+        try {
+            enabledRecording = measure(interceptor, request, response, iterations, rounds);
+        } finally {
+            recording.stop();
+        }
+
+        System.out.printf("%-34s %10s %12s%n", "setup", "ns/req", "overhead ns");
+        System.out.printf("%-34s %10.0f %12s%n", "diagnostics disabled", disabled, "-");
+        System.out.printf("%-34s %10.0f %12.0f%n", "enabled, no recording", enabledIdle, enabledIdle - disabled);
+        System.out.printf("%-34s %10.0f %12.0f%n", "enabled, continuous recording", enabledRecording, enabledRecording - disabled);
+    }
+
+    private static double measure(DiagnosticsInterceptor interceptor, MockHttpServletRequest request,
+                                  MockHttpServletResponse response, int iterations, int rounds) {
+        // The first round only warms up the JIT
+        double[] results = new double[rounds];
+        for (int round = -1; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                handle(interceptor, request, response);
+            }
+            if (round >= 0) {
+                results[round] = (System.nanoTime() - start) / (double) iterations;
+            }
+        }
+        Arrays.sort(results);
+        return results[rounds / 2];
+    }
+
+    private static void handle(DiagnosticsInterceptor interceptor, MockHttpServletRequest request,
+                               MockHttpServletResponse response) {
+        if (interceptor != null) {
+            interceptor.preHandle(request, response, null);
+            interceptor.afterCompletion(request, response, null, null);
+        }
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -58,6 +60,42 @@ class CustomerApiIntegrationTest {
                 .andExpect(jsonPath("$.emailAddress", is("jane.smith@example.com")));
     }
 
+    @Test
+    void shouldRejectInvalidCustomer() throws Exception {
+        Customer invalidCustomer = new Customer();
+        invalidCustomer.setFirstName("Jane");
+        invalidCustomer.setEmailAddress("not-an-email");
+        invalidCustomer.setPhoneNumber("12345");
+
+        mockMvc.perform(post("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidCustomer)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.phoneNumber", is("Phone number must be exactly 10 digits")))
+                .andExpect(jsonPath("$.lastName", is("Last name is mandatory")))
+                .andExpect(jsonPath("$.emailAddress", is("Email should be valid")));
+    }
+
+    @Test
+    void shouldCreateBatchAndReportErrorsPerIndex() throws Exception {
+        String batch = "["
+                + "{\"phoneNumber\":\"0987654321\",\"firstName\":\"Jane\",\"lastName\":\"Smith\",\"emailAddress\":\"jane.smith@example.com\"},"
+                + "{\"phoneNumber\":\"12345\",\"firstName\":\"Jim\",\"lastName\":\"Beam\",\"emailAddress\":\"jim.beam@example.com\"},"
+                + "null,"
+                + "{\"phoneNumber\":\"1234567890\",\"firstName\":\"Johnny\",\"lastName\":\"Doe\",\"emailAddress\":\"john.doe@example.com\"}"
+                + "]";
+
+        mockMvc.perform(post("/api/customers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", hasSize(1)))
+                .andExpect(jsonPath("$.created[0].emailAddress", is("jane.smith@example.com")))
+                .andExpect(jsonPath("$.errors['1'].phoneNumber", is("Phone number must be exactly 10 digits")))
+                .andExpect(jsonPath("$.errors['2'].customer", is("Customer is mandatory")))
+                .andExpect(jsonPath("$.errors['3'].emailAddress", containsString("already exists")));
+    }
+
     @Test
     void shouldGetCustomerById() throws Exception {
         mockMvc.perform(get("/api/customers/" + testCustomer.getId()))
@@ -89,4 +127,42 @@ class CustomerApiIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(org.hamcrest.Matchers.containsString("Successfully deleted")));
     }
+
+    @Test
+    void shouldHideDeletedCustomerFromReads() throws Exception {
+        mockMvc.perform(delete("/api/customers/{id}", testCustomer.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/customers/" + testCustomer.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/customers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(delete("/api/customers/{id}", testCustomer.getId()))
+                .andExpect(status().isNotFound());
+
+        // Soft delete bumps the version like any other write and frees the email
+        Customer tombstone = customerRepository.findById(testCustomer.getId()).orElseThrow();
+        assertTrue(tombstone.isDeleted());
+        assertEquals(testCustomer.getVersion() + 1, tombstone.getVersion());
+        assertEquals(CustomerRepository.DELETED_EMAIL_PREFIX + testCustomer.getId(), tombstone.getEmailAddress());
+    }
+
+    @Test
+    void shouldReuseEmailOfDeletedCustomer() throws Exception {
+        mockMvc.perform(delete("/api/customers/{id}", testCustomer.getId()))
+                .andExpect(status().isOk());
+
+        Customer sameEmail = new Customer();
+        sameEmail.setFirstName("John");
+        sameEmail.setLastName("Doe");
+        sameEmail.setEmailAddress("john.doe@example.com");
+        sameEmail.setPhoneNumber("1234567890");
+
+        mockMvc.perform(post("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sameEmail)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.emailAddress", is("john.doe@example.com")));
+    }
 }
@@ -0,0 +1,66 @@
+package com.customers.customermanagement.integration;
+
+import com.customers.customermanagement.CustomerManagementSystemApplication;
+import com.customers.customermanagement.cache.TwoTierCustomerCache;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.service.CustomerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots two application instances in one JVM, sharing a database and a cache cluster name, the way
+ * replicas share them in a deployment.
+ */
+class CustomerCacheClusterIntegrationTest {
+
+    private ConfigurableApplicationContext replicaA;
+    private ConfigurableApplicationContext replicaB;
+
+    @BeforeEach
+    void setUp() {
+        String clusterName = "cluster-" + UUID.randomUUID();
+        replicaA = startReplica(clusterName);
+        replicaB = startReplica(clusterName);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaA.close();
+        replicaB.close();
+    }
+
+    @Test
+    void shouldEvictNearCacheOfOtherReplicaOnUpdate() {
+        CustomerService serviceA = replicaA.getBean(CustomerService.class);
+        CustomerService serviceB = replicaB.getBean(CustomerService.class);
+        TwoTierCustomerCache cacheB = replicaB.getBean(TwoTierCustomerCache.class);
+
+        CustomerDTO created = serviceA.createCustomer(new CustomerDTO(null, "1234567890", "John", null, "Doe", "john.doe@example.com"));
+        assertEquals("John", serviceB.getCustomerById(created.getId()).getFirstName());
+        assertNotNull(cacheB.get(created.getId()));
+
+        serviceA.updateCustomer(created.getId(), new CustomerDTO(created.getId(), "1234567890", "Johnny", null, "Doe", "john.doe@example.com"));
+
+        assertNull(cacheB.get(created.getId()));
+        assertEquals("Johnny", serviceB.getCustomerById(created.getId()).getFirstName());
+    }
+
+    private static ConfigurableApplicationContext startReplica(String clusterName) {
+        return new SpringApplicationBuilder(CustomerManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + clusterName + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--customer.cache.cluster-name=" + clusterName,
+                        "--customer.diagnostics.enabled=false");
+    }
+}
@@ -0,0 +1,62 @@
+package com.customers.customermanagement.integration;
+
+import com.customers.customermanagement.entity.Customer;
+import com.customers.customermanagement.repository.CustomerRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DiagnosticsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Test
+    void shouldEmitRequestEventWithCustomerIdRowCountAndDatabaseTime() throws Exception {
+        Customer customer = customerRepository.save(new Customer(null, "1234567890", "John", null, "Doe", "jfr." + System.nanoTime() + "@example.com"));
+        String customerId = customer.getId().toString();
+        List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(1);
+
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable("com.customers.CustomerRequest");
+            stream.onEvent("com.customers.CustomerRequest", event -> {
+                if (customerId.equals(event.getString("customerId"))) {
+                    events.add(event);
+                    received.countDown();
+                }
+            });
+            stream.startAsync();
+
+            mockMvc.perform(get("/api/customers/" + customerId)).andExpect(status().isOk());
+
+            assertTrue(received.await(10, TimeUnit.SECONDS), "No customer request event was recorded");
+        }
+
+        RecordedEvent event = events.get(0);
+        assertEquals("GET", event.getString("method"));
+        assertEquals(200, event.getInt("status"));
+        assertEquals(1, event.getInt("rowCount"));
+        assertTrue(event.getDuration("dbTime").compareTo(Duration.ZERO) > 0);
+        assertTrue(event.getDuration("serviceTime").compareTo(event.getDuration("dbTime")) >= 0);
+    }
+}
@@ -0,0 +1,195 @@
+package com.customers.customermanagement.integration;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.entity.Customer;
+import com.customers.customermanagement.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveCustomerApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer testCustomer;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+        testCustomer = new Customer();
+        testCustomer.setFirstName("John");
+        testCustomer.setLastName("Doe");
+        testCustomer.setEmailAddress("john.doe@example.com");
+        testCustomer.setPhoneNumber("1234567890");
+        testCustomer = customerRepository.save(testCustomer);
+    }
+
+    @Test
+    void shouldRunOnNetty() {
+        assertInstanceOf(NettyWebServer.class, context.getWebServer());
+    }
+
+    @Test
+    void shouldCreateCustomer() {
+        CustomerDTO newCustomer = new CustomerDTO(null, "0987654321", "Jane", null, "Smith", "jane.smith@example.com");
+
+        webTestClient.post().uri("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(newCustomer)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.emailAddress").isEqualTo("jane.smith@example.com");
+    }
+
+    @Test
+    void shouldRejectDuplicateEmail() {
+        CustomerDTO duplicate = new CustomerDTO(null, "0987654321", "Johnny", null, "Doe", "john.doe@example.com");
+
+        webTestClient.post().uri("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(duplicate)
+                .exchange()
+                .expectStatus().is4xxClientError();
+    }
+
+    @Test
+    void shouldRejectInvalidCustomer() {
+        CustomerDTO invalidCustomer = new CustomerDTO(null, "12345", "Jane", null, null, "not-an-email");
+
+        webTestClient.post().uri("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(invalidCustomer)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.phoneNumber").isEqualTo("Phone number must be exactly 10 digits")
+                .jsonPath("$.lastName").isEqualTo("Last name is mandatory")
+                .jsonPath("$.emailAddress").isEqualTo("Email should be valid");
+    }
+
+    @Test
+    void shouldCreateBatchAndReportErrorsPerIndex() {
+        String batch = "["
+                + "{\"phoneNumber\":\"0987654321\",\"firstName\":\"Jane\",\"lastName\":\"Smith\",\"emailAddress\":\"jane.smith@example.com\"},"
+                + "{\"phoneNumber\":\"12345\",\"firstName\":\"Jim\",\"lastName\":\"Beam\",\"emailAddress\":\"jim.beam@example.com\"},"
+                + "null,"
+                + "{\"phoneNumber\":\"1234567890\",\"firstName\":\"Johnny\",\"lastName\":\"Doe\",\"emailAddress\":\"john.doe@example.com\"}"
+                + "]";
+
+        webTestClient.post().uri("/api/customers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(batch)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created.length()").isEqualTo(1)
+                .jsonPath("$.created[0].emailAddress").isEqualTo("jane.smith@example.com")
+                .jsonPath("$.errors['1'].phoneNumber").isEqualTo("Phone number must be exactly 10 digits")
+                .jsonPath("$.errors['2'].customer").isEqualTo("Customer is mandatory")
+                .jsonPath("$.errors['3'].emailAddress").isEqualTo("Customer with email john.doe@example.com already exists.");
+    }
+
+    @Test
+    void shouldGetCustomerById() {
+        webTestClient.get().uri("/api/customers/{id}", testCustomer.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(testCustomer.getId().toString());
+    }
+
+    @Test
+    void shouldGetAllCustomers() {
+        webTestClient.get().uri("/api/customers")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerDTO.class)
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldUpdateCustomer() {
+        CustomerDTO update = new CustomerDTO(testCustomer.getId(), "1234567890", "Updated", null, "Doe", "john.doe@example.com");
+
+        webTestClient.put().uri("/api/customers/{id}", testCustomer.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Updated");
+
+        assertEquals(testCustomer.getVersion() + 1, customerRepository.findById(testCustomer.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void shouldDeleteCustomer() {
+        webTestClient.delete().uri("/api/customers/{id}", testCustomer.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertTrue(body.contains("Successfully deleted")));
+    }
+
+    @Test
+    void shouldHideDeletedCustomerFromReads() {
+        webTestClient.delete().uri("/api/customers/{id}", testCustomer.getId())
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/api/customers/{id}", testCustomer.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.get().uri("/api/customers")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerDTO.class)
+                .hasSize(0);
+        webTestClient.delete().uri("/api/customers/{id}", testCustomer.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // Soft delete bumps the version like any other write and frees the email
+        Customer tombstone = customerRepository.findById(testCustomer.getId()).orElseThrow();
+        assertTrue(tombstone.isDeleted());
+        assertEquals(testCustomer.getVersion() + 1, tombstone.getVersion());
+        assertEquals(CustomerRepository.DELETED_EMAIL_PREFIX + testCustomer.getId(), tombstone.getEmailAddress());
+    }
+
+    @Test
+    void shouldReuseEmailOfDeletedCustomer() {
+        webTestClient.delete().uri("/api/customers/{id}", testCustomer.getId())
+                .exchange()
+                .expectStatus().isOk();
+
+        CustomerDTO sameEmail = new CustomerDTO(null, "1234567890", "John", null, "Doe", "john.doe@example.com");
+        webTestClient.post().uri("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(sameEmail)
+                .exchange()
+                .expectStatus().isCreated();
+
+        // The tombstone stays until compaction, under its placeholder email
+        assertEquals(2, customerRepository.count());
+    }
+}
@@ -1,6 +1,7 @@
 package com.customers.customermanagement.unit;
 
 import com.customers.customermanagement.controller.CustomerController;
+import com.customers.customermanagement.dto.BatchCreateResultDTO;
 import com.customers.customermanagement.dto.CustomerDTO;
 import com.customers.customermanagement.service.CustomerService;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +42,22 @@ class CustomerControllerTest {
         assertEquals("test@example.com", response.getBody().getEmailAddress());
     }
 
+    @Test
+    void testCreateCustomers() {
+        CustomerDTO customerDTO = new CustomerDTO();
+        customerDTO.setEmailAddress("test@example.com");
+        List<CustomerDTO> batch = Arrays.asList(customerDTO, null);
+        BatchCreateResultDTO result = new BatchCreateResultDTO(List.of(customerDTO), Map.of(1, Map.of("customer", "Customer is mandatory")));
+
+        when(customerService.createCustomers(batch)).thenReturn(result);
+
+        ResponseEntity<BatchCreateResultDTO> response = controller.createCustomers(batch);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(1, response.getBody().getCreated().size());
+        assertTrue(response.getBody().getErrors().containsKey(1));
+    }
+
     @Test
     void testGetCustomerById() {
         UUID id = UUID.randomUUID();
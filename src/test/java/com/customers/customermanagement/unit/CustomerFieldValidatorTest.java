@@ -0,0 +1,71 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.validation.CustomerFieldValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerFieldValidatorTest {
+
+    @Test
+    void shouldAcceptValidCustomerWithoutErrors() {
+        CustomerDTO customerDTO = new CustomerDTO(null, "1234567890", "John", null, "Doe", "john.doe@example.com");
+
+        Map<String, String> errors = CustomerFieldValidator.validate(customerDTO);
+
+        assertTrue(errors.isEmpty());
+        // The happy path hands back the shared empty map rather than a new one
+        assertSame(errors, CustomerFieldValidator.validate(customerDTO));
+    }
+
+    @Test
+    void shouldReportEveryInvalidField() {
+        CustomerDTO customerDTO = new CustomerDTO(null, "12345", " ", null, null, "not-an-email");
+
+        Map<String, String> errors = CustomerFieldValidator.validate(customerDTO);
+
+        assertEquals(4, errors.size());
+        assertEquals(CustomerFieldValidator.PHONE_INVALID, errors.get("phoneNumber"));
+        assertEquals(CustomerFieldValidator.FIRST_NAME_MANDATORY, errors.get("firstName"));
+        assertEquals(CustomerFieldValidator.LAST_NAME_MANDATORY, errors.get("lastName"));
+        assertEquals(CustomerFieldValidator.EMAIL_INVALID, errors.get("emailAddress"));
+    }
+
+    @Test
+    void shouldReportMissingPhoneAndEmailAsMandatory() {
+        CustomerDTO customerDTO = new CustomerDTO(null, null, "John", null, "Doe", "");
+
+        Map<String, String> errors = CustomerFieldValidator.validate(customerDTO);
+
+        assertEquals(CustomerFieldValidator.PHONE_MANDATORY, errors.get("phoneNumber"));
+        assertEquals(CustomerFieldValidator.EMAIL_MANDATORY, errors.get("emailAddress"));
+    }
+
+    @Test
+    void shouldValidatePhoneNumbers() {
+        assertTrue(CustomerFieldValidator.isValidPhoneNumber("0987654321"));
+        assertFalse(CustomerFieldValidator.isValidPhoneNumber("098765432"));
+        assertFalse(CustomerFieldValidator.isValidPhoneNumber("09876543210"));
+        assertFalse(CustomerFieldValidator.isValidPhoneNumber("098765432a"));
+    }
+
+    @Test
+    void shouldValidateEmailAddresses() {
+        assertTrue(CustomerFieldValidator.isValidEmail("jane.smith@example.com"));
+        assertTrue(CustomerFieldValidator.isValidEmail("jane+tag@sub.example.co.uk"));
+        assertTrue(CustomerFieldValidator.isValidEmail("jane@localhost"));
+        assertTrue(CustomerFieldValidator.isValidEmail("jane@[192.168.0.1]"));
+
+        assertFalse(CustomerFieldValidator.isValidEmail("jane.example.com"));
+        assertFalse(CustomerFieldValidator.isValidEmail("@example.com"));
+        assertFalse(CustomerFieldValidator.isValidEmail("jane@"));
+        assertFalse(CustomerFieldValidator.isValidEmail(".jane@example.com"));
+        assertFalse(CustomerFieldValidator.isValidEmail("ja..ne@example.com"));
+        assertFalse(CustomerFieldValidator.isValidEmail("jane@example..com"));
+        assertFalse(CustomerFieldValidator.isValidEmail("jane@-example.com"));
+        assertFalse(CustomerFieldValidator.isValidEmail("jane doe@example.com"));
+    }
+}
@@ -1,14 +1,22 @@
 package com.customers.customermanagement.unit;
 
+import com.customers.customermanagement.cache.InMemorySharedCustomerCache;
+import com.customers.customermanagement.cache.LocalInvalidationTransport;
+import com.customers.customermanagement.cache.TwoTierCustomerCache;
+import com.customers.customermanagement.dto.BatchCreateResultDTO;
 import com.customers.customermanagement.dto.CustomerDTO;
 import com.customers.customermanagement.entity.Customer;
 import com.customers.customermanagement.exception.CustomerAlreadyExistsException;
 import com.customers.customermanagement.exception.CustomerNotFoundException;
 import com.customers.customermanagement.repository.CustomerRepository;
 import com.customers.customermanagement.service.CustomerService;
+import com.customers.customermanagement.validation.CustomerFieldValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,12 +26,14 @@ import static org.mockito.Mockito.*;
 class CustomerServiceTest {
 
     private CustomerRepository customerRepository;
+    private TwoTierCustomerCache customerCache;
     private CustomerService customerService;
 
     @BeforeEach
     void setUp() {
         customerRepository = mock(CustomerRepository.class);
-        customerService = new CustomerService(customerRepository);
+        customerCache = new TwoTierCustomerCache(new InMemorySharedCustomerCache(100), new LocalInvalidationTransport(), 100);
+        customerService = new CustomerService(customerRepository, customerCache);
     }
 
     @Test
@@ -32,7 +42,7 @@ class CustomerServiceTest {
         customerDTO.setEmailAddress("test@example.com");
 
         // Simulate that customer does not exist
-        when(customerRepository.existsByEmailAddress(customerDTO.getEmailAddress())).thenReturn(false);
+        when(customerRepository.existsByEmailAddressAndDeletedFalse(customerDTO.getEmailAddress())).thenReturn(false);
 
         // Simulate saving the customer and returning it
         Customer customer = new Customer();
@@ -52,11 +62,45 @@ class CustomerServiceTest {
         customerDTO.setEmailAddress("test@example.com");
 
         // Simulate customer already exists
-        when(customerRepository.existsByEmailAddress(customerDTO.getEmailAddress())).thenReturn(true);
+        when(customerRepository.existsByEmailAddressAndDeletedFalse(customerDTO.getEmailAddress())).thenReturn(true);
 
         assertThrows(CustomerAlreadyExistsException.class, () -> customerService.createCustomer(customerDTO));
     }
 
+    @Test
+    void shouldCollectBatchErrorsWithoutThrowing() {
+        CustomerDTO valid = new CustomerDTO(null, "1234567890", "John", null, "Doe", "john@example.com");
+        CustomerDTO invalid = new CustomerDTO(null, "123", "Jane", null, "Smith", "jane@example.com");
+        CustomerDTO existing = new CustomerDTO(null, "1234567890", "Jim", null, "Beam", "jim@example.com");
+        CustomerDTO repeated = new CustomerDTO(null, "1234567890", "John", null, "Doe", "john@example.com");
+
+        when(customerRepository.existsByEmailAddressAndDeletedFalse("john@example.com")).thenReturn(false);
+        when(customerRepository.existsByEmailAddressAndDeletedFalse("jim@example.com")).thenReturn(true);
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchCreateResultDTO result = customerService.createCustomers(Arrays.asList(valid, invalid, existing, repeated));
+
+        assertEquals(1, result.getCreated().size());
+        assertEquals(3, result.getErrors().size());
+        assertTrue(result.getErrors().get(1).containsKey("phoneNumber"));
+        assertTrue(result.getErrors().get(2).containsKey("emailAddress"));
+        assertTrue(result.getErrors().get(3).containsKey("emailAddress"));
+        verify(customerRepository, times(1)).save(any(Customer.class));
+    }
+
+    @Test
+    void shouldReportNullBatchElementAsError() {
+        CustomerDTO valid = new CustomerDTO(null, "1234567890", "John", null, "Doe", "john@example.com");
+
+        when(customerRepository.existsByEmailAddressAndDeletedFalse("john@example.com")).thenReturn(false);
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchCreateResultDTO result = customerService.createCustomers(Arrays.asList(null, valid));
+
+        assertEquals(1, result.getCreated().size());
+        assertEquals(Map.of("customer", CustomerFieldValidator.CUSTOMER_MANDATORY), result.getErrors().get(0));
+    }
+
     @Test
     void shouldGetCustomerById() {
         UUID id = UUID.randomUUID();
@@ -64,18 +108,48 @@ class CustomerServiceTest {
         customer.setId(id);
 
         // Simulate customer found by ID
-        when(customerRepository.findById(id)).thenReturn(Optional.of(customer));
+        when(customerRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.of(customer));
 
         CustomerDTO found = customerService.getCustomerById(id);
 
         assertEquals(id, found.getId());
     }
 
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        UUID id = UUID.randomUUID();
+        Customer customer = new Customer();
+        customer.setId(id);
+        when(customerRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.of(customer));
+
+        customerService.getCustomerById(id);
+        CustomerDTO found = customerService.getCustomerById(id);
+
+        assertEquals(id, found.getId());
+        verify(customerRepository, times(1)).findByIdAndDeletedFalse(id);
+    }
+
+    @Test
+    void shouldInvalidateCacheOnUpdate() {
+        UUID id = UUID.randomUUID();
+        Customer existing = new Customer(id, "1234567890", "John", null, "Doe", "john@example.com");
+        Customer saved = new Customer(id, "1234567890", "Johnny", null, "Doe", "john@example.com");
+        saved.setVersion(1);
+        when(customerRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.of(existing), Optional.of(existing), Optional.of(saved));
+        when(customerRepository.save(existing)).thenReturn(saved);
+
+        customerService.getCustomerById(id);
+        customerService.updateCustomer(id, saved.getCustomerDTO(saved));
+        CustomerDTO found = customerService.getCustomerById(id);
+
+        assertEquals("Johnny", found.getFirstName());
+    }
+
     @Test
     void shouldThrowIfCustomerNotFoundById() {
         UUID id = UUID.randomUUID();
         // Simulate customer not found
-        when(customerRepository.findById(id)).thenReturn(Optional.empty());
+        when(customerRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.empty());
 
         assertThrows(CustomerNotFoundException.class, () -> customerService.getCustomerById(id));
     }
@@ -93,7 +167,7 @@ class CustomerServiceTest {
         updates.setPhoneNumber("1234567890");
 
         // Simulate finding the existing customer and updating
-        when(customerRepository.findById(id)).thenReturn(Optional.of(existing));
+        when(customerRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.of(existing));
         when(customerRepository.save(existing)).thenReturn(existing);
 
         // Update customer and return the DTO
@@ -105,18 +179,20 @@ class CustomerServiceTest {
     @Test
     void shouldDeleteCustomer() {
         UUID id = UUID.randomUUID();
-        when(customerRepository.existsById(id)).thenReturn(true);
+        when(customerRepository.softDeleteById(eq(id), any(Instant.class))).thenReturn(1);
 
         boolean deleted = customerService.deleteCustomer(id);
 
         assertTrue(deleted);
-        verify(customerRepository).deleteById(id);
+        // Deletion is a single tombstone update, no existence check and no hard delete
+        verify(customerRepository, never()).existsById(id);
+        verify(customerRepository, never()).deleteById(id);
     }
 
     @Test
     void shouldThrowWhenDeletingNonexistentCustomer() {
         UUID id = UUID.randomUUID();
-        when(customerRepository.existsById(id)).thenReturn(false);
+        when(customerRepository.softDeleteById(eq(id), any(Instant.class))).thenReturn(0);
 
         assertThrows(CustomerNotFoundException.class, () -> customerService.deleteCustomer(id));
     }
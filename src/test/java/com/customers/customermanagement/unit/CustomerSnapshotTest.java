@@ -0,0 +1,170 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.cache.InvalidationMessage;
+import com.customers.customermanagement.cache.LocalInvalidationTransport;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.entity.Customer;
+import com.customers.customermanagement.repository.CustomerRepository;
+import com.customers.customermanagement.snapshot.CustomerSnapshot;
+import com.customers.customermanagement.snapshot.CustomerSnapshotStore;
+import com.customers.customermanagement.snapshot.CustomerSnapshotWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomerSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CustomerRepository customerRepository;
+    private LocalInvalidationTransport transport;
+    private Path snapshotPath;
+
+    private Customer john;
+    private Customer jane;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        customerRepository = mock(CustomerRepository.class);
+        transport = new LocalInvalidationTransport();
+        snapshotPath = tempDir.resolve("customers.bin");
+
+        john = new Customer(UUID.randomUUID(), "1234567890", "John", null, "Doe", "john.doe@example.com");
+        jane = new Customer(UUID.randomUUID(), "0987654321", "Jane", null, "Smith", "Jane.Smith@Example.com");
+        when(customerRepository.findAllByDeletedFalse()).thenReturn(Arrays.asList(john, jane));
+
+        new CustomerSnapshotWriter(customerRepository, objectMapper).write(snapshotPath);
+    }
+
+    @Test
+    void shouldFindCustomersByIdAndEmail() throws IOException {
+        CustomerSnapshot snapshot = CustomerSnapshot.open(snapshotPath);
+
+        assertEquals(2, snapshot.count());
+        assertEquals("John", read(snapshot.findJsonById(john.getId())).getFirstName());
+        assertEquals(jane.getId(), snapshot.findIdByEmail("Jane.Smith@Example.com"));
+        assertNull(snapshot.findJsonById(UUID.randomUUID()));
+        assertNull(snapshot.findIdByEmail("nobody@example.com"));
+    }
+
+    @Test
+    void shouldKeepCaseVariantsOfEmailApart() throws IOException {
+        Customer janeLowerCase = new Customer(UUID.randomUUID(), "0987654321", "Janet", null, "Smith", "jane.smith@example.com");
+        when(customerRepository.findAllByDeletedFalse()).thenReturn(Arrays.asList(john, jane, janeLowerCase));
+        new CustomerSnapshotWriter(customerRepository, objectMapper).write(snapshotPath);
+
+        CustomerSnapshot snapshot = CustomerSnapshot.open(snapshotPath);
+
+        assertEquals(jane.getId(), snapshot.findIdByEmail("Jane.Smith@Example.com"));
+        assertEquals(janeLowerCase.getId(), snapshot.findIdByEmail("jane.smith@example.com"));
+        assertNull(snapshot.findIdByEmail("JANE.SMITH@EXAMPLE.COM"));
+    }
+
+    @Test
+    void shouldResolveLookupsAcrossManyCustomers() throws IOException {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            customers.add(new Customer(UUID.randomUUID(), "1234567890", "First" + i, null, "Last" + i, "customer" + i + "@example.com"));
+        }
+        when(customerRepository.findAllByDeletedFalse()).thenReturn(customers);
+        new CustomerSnapshotWriter(customerRepository, objectMapper).write(snapshotPath);
+
+        CustomerSnapshot snapshot = CustomerSnapshot.open(snapshotPath);
+
+        for (Customer customer : customers) {
+            assertEquals(customer.getFirstName(), read(snapshot.findJsonById(customer.getId())).getFirstName());
+            assertEquals(customer.getId(), snapshot.findIdByEmail(customer.getEmailAddress()));
+        }
+    }
+
+    @Test
+    void shouldOverlayUpdatesAndDeletesUntilNextSnapshot() throws IOException {
+        CustomerSnapshotStore store = new CustomerSnapshotStore(objectMapper, transport, snapshotPath.toString());
+
+        CustomerDTO renamed = new CustomerDTO(john.getId(), "1234567890", "Johnny", null, "Doe", "johnny@example.com");
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), john.getId(), 1, renamed));
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), jane.getId(), Long.MAX_VALUE));
+
+        assertEquals("Johnny", read(store.findJsonById(john.getId())).getFirstName());
+        assertEquals("Johnny", read(store.findJsonByEmail("johnny@example.com")).getFirstName());
+        assertNull(store.findJsonByEmail("john.doe@example.com"));
+        assertNull(store.findJsonById(jane.getId()));
+        assertNull(store.findJsonByEmail("Jane.Smith@Example.com"));
+    }
+
+    @Test
+    void shouldIgnoreDeltaOlderThanOverlay() throws IOException {
+        CustomerSnapshotStore store = new CustomerSnapshotStore(objectMapper, transport, snapshotPath.toString());
+
+        CustomerDTO newer = new CustomerDTO(john.getId(), "1234567890", "Johnny", null, "Doe", "john.doe@example.com");
+        CustomerDTO older = new CustomerDTO(john.getId(), "1234567890", "Jon", null, "Doe", "john.doe@example.com");
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), john.getId(), 2, newer));
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), john.getId(), 1, older));
+
+        assertEquals("Johnny", read(store.findJsonById(john.getId())).getFirstName());
+    }
+
+    @Test
+    void shouldKeepOverlayEntriesNewerThanSwappedInSnapshot() throws Exception {
+        CustomerSnapshotStore store = new CustomerSnapshotStore(objectMapper, transport, snapshotPath.toString());
+        CustomerDTO renamed = new CustomerDTO(john.getId(), "1234567890", "Johnny", null, "Doe", "john.doe@example.com");
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), john.getId(), 1, renamed));
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), jane.getId(), Long.MAX_VALUE));
+
+        // The next build read the table before these changes, so it still holds the old versions
+        Thread.sleep(20);
+        new CustomerSnapshotWriter(customerRepository, objectMapper).write(snapshotPath);
+        store.reload();
+
+        assertEquals("Johnny", read(store.findJsonById(john.getId())).getFirstName());
+        assertNull(store.findJsonById(jane.getId()));
+    }
+
+    @Test
+    void shouldDropOverlayEntriesCoveredBySwappedInSnapshot() throws Exception {
+        CustomerSnapshotStore store = new CustomerSnapshotStore(objectMapper, transport, snapshotPath.toString());
+        CustomerDTO renamed = new CustomerDTO(john.getId(), "1234567890", "Johnny", null, "Doe", "john.doe@example.com");
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), john.getId(), 1, renamed));
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), jane.getId(), Long.MAX_VALUE));
+
+        // The next build holds version 2 of John and no longer contains Jane, so it is the source of truth again
+        john.setFirstName("Jonathan");
+        john.setVersion(2);
+        when(customerRepository.findAllByDeletedFalse()).thenReturn(List.of(john));
+        Thread.sleep(20);
+        new CustomerSnapshotWriter(customerRepository, objectMapper).write(snapshotPath);
+        store.reload();
+
+        assertEquals("Jonathan", read(store.findJsonById(john.getId())).getFirstName());
+        assertNull(store.findJsonById(jane.getId()));
+    }
+
+    @Test
+    void shouldServeNothingBeforeSnapshotExists() {
+        CustomerSnapshotStore store = new CustomerSnapshotStore(objectMapper, transport, tempDir.resolve("missing.bin").toString());
+
+        assertFalse(store.isLoaded());
+        assertNull(store.findJsonById(john.getId()));
+        assertNull(store.findJsonByEmail("john.doe@example.com"));
+    }
+
+    private CustomerDTO read(ByteBuffer json) throws IOException {
+        byte[] bytes = new byte[json.remaining()];
+        json.get(bytes);
+        return objectMapper.readValue(bytes, CustomerDTO.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.cache.InvalidationMessage;
+import com.customers.customermanagement.cache.LocalInvalidationTransport;
+import com.customers.customermanagement.dto.DuplicateCandidateDTO;
+import com.customers.customermanagement.dto.DuplicateClusterDTO;
+import com.customers.customermanagement.entity.Customer;
+import com.customers.customermanagement.exception.CustomerNotFoundException;
+import com.customers.customermanagement.repository.CustomerRepository;
+import com.customers.customermanagement.service.CustomerSimilarityIndex;
+import com.customers.customermanagement.service.DuplicateDetectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DuplicateDetectionServiceTest {
+
+    private CustomerRepository customerRepository;
+    private LocalInvalidationTransport transport;
+    private DuplicateDetectionService duplicateDetectionService;
+
+    private Customer john;
+    private Customer johnUpperCaseEmail;
+    private Customer johnTypo;
+    private Customer jane;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository = mock(CustomerRepository.class);
+        transport = new LocalInvalidationTransport();
+        duplicateDetectionService = new DuplicateDetectionService(customerRepository, new CustomerSimilarityIndex(), transport, 0.85);
+
+        john = new Customer(UUID.randomUUID(), "1234567890", "John", null, "Doe", "john.doe@example.com");
+        johnUpperCaseEmail = new Customer(UUID.randomUUID(), "1234567890", "John", null, "Doe", "John.Doe@Example.com");
+        johnTypo = new Customer(UUID.randomUUID(), "1234567890", "John", null, "Deo", "john.doe+shop@example.com");
+        jane = new Customer(UUID.randomUUID(), "0987654321", "Jane", null, "Smith", "jane.smith@example.com");
+
+        when(customerRepository.findAllByDeletedFalse()).thenReturn(Arrays.asList(john, johnUpperCaseEmail, johnTypo, jane));
+        duplicateDetectionService.rebuildIndex();
+    }
+
+    @Test
+    void shouldFindCandidatesWithDifferentEmailCasingAndNameTypo() {
+        when(customerRepository.findByIdAndDeletedFalse(john.getId())).thenReturn(Optional.of(john));
+
+        List<DuplicateCandidateDTO> candidates = duplicateDetectionService.findDuplicates(john.getId());
+
+        assertEquals(2, candidates.size());
+        assertTrue(candidates.stream().anyMatch(c -> c.getCustomer().getId().equals(johnUpperCaseEmail.getId())));
+        assertTrue(candidates.stream().anyMatch(c -> c.getCustomer().getId().equals(johnTypo.getId())));
+    }
+
+    @Test
+    void shouldNotReportUnrelatedCustomer() {
+        when(customerRepository.findByIdAndDeletedFalse(jane.getId())).thenReturn(Optional.of(jane));
+
+        assertTrue(duplicateDetectionService.findDuplicates(jane.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldApplyChangesPublishedByOtherWriters() {
+        Customer janeTwin = new Customer(UUID.randomUUID(), "0987654321", "Jane", null, "Smith", "jane.smith+2@example.com");
+        when(customerRepository.findByIdAndDeletedFalse(jane.getId())).thenReturn(Optional.of(jane));
+
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), janeTwin.getId(), 1, janeTwin.getCustomerDTO(janeTwin)));
+        assertEquals(1, duplicateDetectionService.findDuplicates(jane.getId()).size());
+
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), janeTwin.getId(), Long.MAX_VALUE));
+        assertTrue(duplicateDetectionService.findDuplicates(jane.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreLateOrReorderedChanges() {
+        Customer janeTwin = new Customer(UUID.randomUUID(), "0987654321", "Jane", null, "Smith", "jane.smith+2@example.com");
+        Customer unrelated = new Customer(janeTwin.getId(), "5555555555", "Zoe", null, "Young", "zoe@example.com");
+        when(customerRepository.findByIdAndDeletedFalse(jane.getId())).thenReturn(Optional.of(jane));
+
+        // Version 2 moved the customer away from Jane, the late version 1 must not move it back
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), janeTwin.getId(), 2, unrelated.getCustomerDTO(unrelated)));
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), janeTwin.getId(), 1, janeTwin.getCustomerDTO(janeTwin)));
+        assertTrue(duplicateDetectionService.findDuplicates(jane.getId()).isEmpty());
+
+        // An update delivered after the delete must not bring the customer back
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), janeTwin.getId(), Long.MAX_VALUE));
+        transport.publish(new InvalidationMessage(UUID.randomUUID(), janeTwin.getId(), 3, janeTwin.getCustomerDTO(janeTwin)));
+        assertTrue(duplicateDetectionService.findDuplicates(jane.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldKeepServingTheOldIndexWhileRebuilding() {
+        when(customerRepository.findByIdAndDeletedFalse(john.getId())).thenReturn(Optional.of(john));
+        Customer johnTwin = new Customer(UUID.randomUUID(), "1234567890", "John", null, "Doe", "john.doe+2@example.com");
+        when(customerRepository.findAllByDeletedFalse()).thenAnswer(invocation -> {
+            // Lookups during the reload still see the complete old index
+            assertEquals(2, duplicateDetectionService.findDuplicates(john.getId()).size());
+            // A change made while the reload reads is not lost when the new index is swapped in
+            transport.publish(new InvalidationMessage(UUID.randomUUID(), johnTwin.getId(), 1, johnTwin.getCustomerDTO(johnTwin)));
+            return Arrays.asList(john, johnUpperCaseEmail, johnTypo, jane);
+        });
+
+        duplicateDetectionService.rebuildIndex();
+
+        assertEquals(3, duplicateDetectionService.findDuplicates(john.getId()).size());
+    }
+
+    @Test
+    void shouldThrowIfCustomerNotFound() {
+        UUID id = UUID.randomUUID();
+        when(customerRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerNotFoundException.class, () -> duplicateDetectionService.findDuplicates(id));
+    }
+
+    @Test
+    void shouldGroupDuplicatesIntoClusters() {
+        List<DuplicateClusterDTO> clusters = duplicateDetectionService.findDuplicateClusters();
+
+        assertEquals(1, clusters.size());
+        assertEquals(3, clusters.get(0).getCustomers().size());
+    }
+}
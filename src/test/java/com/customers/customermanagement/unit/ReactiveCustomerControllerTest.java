@@ -0,0 +1,116 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.controller.ReactiveCustomerController;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.exception.CustomerNotFoundException;
+import com.customers.customermanagement.service.ReactiveCustomerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveCustomerControllerTest {
+
+    private ReactiveCustomerService customerService;
+    private ReactiveCustomerController controller;
+
+    @BeforeEach
+    void setUp() {
+        customerService = mock(ReactiveCustomerService.class);
+        controller = new ReactiveCustomerController(customerService);
+    }
+
+    @Test
+    void testCreateCustomer() {
+        CustomerDTO customerDTO = new CustomerDTO();
+        customerDTO.setEmailAddress("test@example.com");
+
+        when(customerService.createCustomer(customerDTO)).thenReturn(Mono.just(customerDTO));
+
+        StepVerifier.create(controller.createCustomer(customerDTO))
+                .assertNext(response -> {
+                    assertEquals(201, response.getStatusCode().value());
+                    assertEquals("test@example.com", response.getBody().getEmailAddress());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetCustomerById() {
+        UUID id = UUID.randomUUID();
+        CustomerDTO customerDTO = new CustomerDTO();
+        customerDTO.setId(id);
+
+        when(customerService.getCustomerById(id)).thenReturn(Mono.just(customerDTO));
+
+        StepVerifier.create(controller.getCustomer(id))
+                .assertNext(response -> {
+                    assertEquals(200, response.getStatusCode().value());
+                    assertEquals(id, response.getBody().getId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetCustomerByIdNotFound() {
+        UUID id = UUID.randomUUID();
+        when(customerService.getCustomerById(id)).thenReturn(Mono.error(new CustomerNotFoundException("Customer with ID " + id + " not found.")));
+
+        StepVerifier.create(controller.getCustomer(id))
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void testGetAllCustomers() {
+        CustomerDTO c1 = new CustomerDTO();
+        CustomerDTO c2 = new CustomerDTO();
+
+        when(customerService.getAllCustomers()).thenReturn(Flux.just(c1, c2));
+
+        // Request one element at a time to check the stream honours backpressure
+        StepVerifier.create(controller.getAllCustomers(), 1)
+                .expectNext(c1)
+                .thenRequest(1)
+                .expectNext(c2)
+                .verifyComplete();
+    }
+
+    @Test
+    void testUpdateCustomer() {
+        UUID id = UUID.randomUUID();
+        CustomerDTO customerDTO = new CustomerDTO();
+
+        when(customerService.updateCustomer(id, customerDTO)).thenReturn(Mono.just(customerDTO));
+
+        StepVerifier.create(controller.updateCustomer(id, customerDTO))
+                .assertNext(response -> assertEquals(200, response.getStatusCode().value()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeleteCustomer() {
+        UUID id = UUID.randomUUID();
+        when(customerService.deleteCustomer(id)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(controller.deleteCustomer(id))
+                .assertNext(response -> assertEquals(200, response.getStatusCode().value()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeleteNonExistentCustomer() {
+        UUID id = UUID.randomUUID();
+        when(customerService.deleteCustomer(id)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(controller.deleteCustomer(id))
+                .assertNext(response -> assertEquals(404, response.getStatusCode().value()))
+                .verifyComplete();
+    }
+}
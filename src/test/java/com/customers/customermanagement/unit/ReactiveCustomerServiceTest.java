@@ -0,0 +1,118 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.cache.InMemorySharedCustomerCache;
+import com.customers.customermanagement.cache.InvalidationMessage;
+import com.customers.customermanagement.cache.LocalInvalidationTransport;
+import com.customers.customermanagement.cache.TwoTierCustomerCache;
+import com.customers.customermanagement.cache.VersionedCustomer;
+import com.customers.customermanagement.dto.CustomerDTO;
+import com.customers.customermanagement.entity.CustomerRecord;
+import com.customers.customermanagement.exception.CustomerNotFoundException;
+import com.customers.customermanagement.repository.ReactiveCustomerRepository;
+import com.customers.customermanagement.service.ReactiveCustomerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveCustomerServiceTest {
+
+    private ReactiveCustomerRepository customerRepository;
+    private TwoTierCustomerCache customerCache;
+    private List<InvalidationMessage> published;
+    private ReactiveCustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository = mock(ReactiveCustomerRepository.class);
+        LocalInvalidationTransport transport = new LocalInvalidationTransport();
+        published = new ArrayList<>();
+        transport.subscribe(published::add);
+        customerCache = new TwoTierCustomerCache(new InMemorySharedCustomerCache(100), transport, 100);
+        customerService = new ReactiveCustomerService(customerRepository, customerCache, 256);
+    }
+
+    @Test
+    void shouldInvalidateCachedCustomerOnUpdate() {
+        UUID id = UUID.randomUUID();
+        CustomerRecord existing = new CustomerRecord(id, "1234567890", "John", null, "Doe", "john.doe@example.com");
+        existing.setVersion(1);
+        customerCache.put(new VersionedCustomer(new CustomerDTO(id, "1234567890", "John", null, "Doe", "john.doe@example.com"), 1));
+        when(customerRepository.findByIdAndDeletedFalse(id)).thenReturn(Mono.just(existing));
+        when(customerRepository.save(any(CustomerRecord.class))).thenAnswer(invocation -> {
+            CustomerRecord saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() + 1);
+            return Mono.just(saved);
+        });
+
+        CustomerDTO update = new CustomerDTO(id, "1234567890", "Johnny", null, "Doe", "john.doe@example.com");
+        StepVerifier.create(customerService.updateCustomer(id, update))
+                .assertNext(saved -> assertEquals("Johnny", saved.getFirstName()))
+                .verifyComplete();
+
+        assertNull(customerCache.get(id));
+        assertEquals(1, published.size());
+        assertEquals(2, published.get(0).getVersion());
+        assertEquals("Johnny", published.get(0).getCustomer().getFirstName());
+    }
+
+    @Test
+    void shouldCollectBatchErrorsWithoutFailing() {
+        CustomerDTO valid = new CustomerDTO(null, "1234567890", "John", null, "Doe", "john@example.com");
+        CustomerDTO invalid = new CustomerDTO(null, "123", "Jane", null, "Smith", "jane@example.com");
+        CustomerDTO existing = new CustomerDTO(null, "1234567890", "Jim", null, "Beam", "jim@example.com");
+        CustomerDTO repeated = new CustomerDTO(null, "1234567890", "John", null, "Doe", "john@example.com");
+
+        when(customerRepository.existsByEmailAddressAndDeletedFalse("john@example.com")).thenReturn(Mono.just(false));
+        when(customerRepository.existsByEmailAddressAndDeletedFalse("jim@example.com")).thenReturn(Mono.just(true));
+        when(customerRepository.save(any(CustomerRecord.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(customerService.createCustomers(Arrays.asList(valid, null, invalid, existing, repeated)))
+                .assertNext(result -> {
+                    assertEquals(1, result.getCreated().size());
+                    assertEquals(4, result.getErrors().size());
+                    assertTrue(result.getErrors().get(1).containsKey("customer"));
+                    assertTrue(result.getErrors().get(2).containsKey("phoneNumber"));
+                    assertTrue(result.getErrors().get(3).containsKey("emailAddress"));
+                    assertTrue(result.getErrors().get(4).containsKey("emailAddress"));
+                })
+                .verifyComplete();
+
+        verify(customerRepository, times(1)).save(any(CustomerRecord.class));
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void shouldInvalidateForeverOnDelete() {
+        UUID id = UUID.randomUUID();
+        when(customerRepository.softDeleteById(eq(id), any(Instant.class))).thenReturn(Mono.just(1));
+
+        StepVerifier.create(customerService.deleteCustomer(id))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertEquals(Long.MAX_VALUE, published.get(0).getVersion());
+        assertNull(published.get(0).getCustomer());
+    }
+
+    @Test
+    void shouldNotInvalidateWhenDeletingUnknownCustomer() {
+        UUID id = UUID.randomUUID();
+        when(customerRepository.softDeleteById(eq(id), any(Instant.class))).thenReturn(Mono.just(0));
+
+        StepVerifier.create(customerService.deleteCustomer(id))
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+
+        assertTrue(published.isEmpty());
+    }
+}
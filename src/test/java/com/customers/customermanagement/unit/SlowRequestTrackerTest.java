@@ -0,0 +1,84 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.diagnostics.SlowRequest;
+import com.customers.customermanagement.diagnostics.SlowRequestTracker;
+import com.customers.customermanagement.diagnostics.SlowRequestsEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestTrackerTest {
+
+    private SlowRequestTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SlowRequestTracker(Duration.ofMinutes(10), 3);
+    }
+
+    @Test
+    void shouldListSlowestRequestsFirst() {
+        Instant now = Instant.now();
+        for (int millis : new int[]{5, 40, 10, 80, 20}) {
+            tracker.record(request(now, millis));
+        }
+
+        List<SlowRequest> slowest = tracker.slowest(2);
+
+        assertEquals(2, slowest.size());
+        assertEquals(80.0, slowest.get(0).getDurationMillis());
+        assertEquals(40.0, slowest.get(1).getDurationMillis());
+    }
+
+    @Test
+    void shouldKeepOnlyCapacityPerMinute() {
+        Instant now = Instant.now();
+        for (int millis = 1; millis <= 10; millis++) {
+            tracker.record(request(now, millis));
+        }
+
+        List<SlowRequest> slowest = tracker.slowest(10);
+
+        assertEquals(3, slowest.size());
+        assertEquals(8.0, slowest.get(2).getDurationMillis());
+    }
+
+    @Test
+    void shouldForgetRequestsOutsideTheWindow() {
+        tracker.record(request(Instant.now().minus(Duration.ofMinutes(30)), 500));
+        tracker.record(request(Instant.now(), 5));
+
+        List<SlowRequest> slowest = tracker.slowest(10);
+
+        assertEquals(1, slowest.size());
+        assertEquals(5.0, slowest.get(0).getDurationMillis());
+    }
+
+    @Test
+    void shouldReportTimeBreakdown() {
+        SlowRequest request = new SlowRequest(Instant.now(), "GET", "/api/customers/1", "1", 200, 1,
+                10_000_000L, 6_000_000L, 4_000_000L);
+
+        assertEquals(4.0, request.getWebMillis());
+        assertEquals(4.0, request.getDbMillis());
+    }
+
+    @Test
+    void shouldRejectNegativeLimit() {
+        SlowRequestsEndpoint endpoint = new SlowRequestsEndpoint(tracker);
+
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.slowest(-1));
+        assertTrue(endpoint.slowest(0).isEmpty());
+    }
+
+    private SlowRequest request(Instant timestamp, int millis) {
+        long nanos = millis * 1_000_000L;
+        return new SlowRequest(timestamp, "GET", "/api/customers/x", null, 200, 1, nanos, nanos / 2, nanos / 4);
+    }
+}
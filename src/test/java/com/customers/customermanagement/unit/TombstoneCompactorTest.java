@@ -0,0 +1,99 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.repository.CustomerRepository;
+import com.customers.customermanagement.service.TombstoneCompactor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TombstoneCompactorTest {
+
+    private CustomerRepository customerRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TombstoneCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository = mock(CustomerRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        compactor = new TombstoneCompactor(customerRepository, meterRegistry, 2, 3, Duration.ZERO, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        compactor.destroy();
+    }
+
+    @Test
+    void shouldPurgeTombstonesInBatches() {
+        List<UUID> fullBatch = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> lastBatch = List.of(UUID.randomUUID());
+        when(customerRepository.findTombstoneIds(any(Instant.class), any(Pageable.class))).thenReturn(fullBatch, lastBatch);
+        when(customerRepository.countByDeletedTrue()).thenReturn(0L);
+
+        int purged = compactor.compact();
+
+        assertEquals(3, purged);
+        verify(customerRepository).deleteAllByIdInBatch(fullBatch);
+        verify(customerRepository).deleteAllByIdInBatch(lastBatch);
+        assertEquals(3.0, meterRegistry.get("customer.tombstones.purged").counter().count());
+    }
+
+    @Test
+    void shouldStopAfterMaxBatchesPerRun() {
+        List<UUID> fullBatch = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(customerRepository.findTombstoneIds(any(Instant.class), any(Pageable.class))).thenReturn(fullBatch);
+        when(customerRepository.countByDeletedTrue()).thenReturn(10L);
+
+        int purged = compactor.compact();
+
+        assertEquals(6, purged);
+        verify(customerRepository, times(3)).deleteAllByIdInBatch(fullBatch);
+        assertEquals(10.0, meterRegistry.get("customer.tombstones.backlog").gauge().value());
+    }
+
+    @Test
+    void shouldDoNothingWithoutTombstones() {
+        when(customerRepository.findTombstoneIds(any(Instant.class), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        assertEquals(0, compactor.compact());
+        verify(customerRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void shouldCompactOffTheSchedulerThreadWithoutOverlappingRuns() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> compactionThread = new AtomicReference<>();
+        when(customerRepository.findTombstoneIds(any(Instant.class), any(Pageable.class))).thenAnswer(invocation -> {
+            compactionThread.set(Thread.currentThread().getName());
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Collections.emptyList();
+        });
+
+        compactor.scheduleCompaction();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // A trigger while the first run is still going is skipped
+        compactor.scheduleCompaction();
+        release.countDown();
+
+        verify(customerRepository, timeout(5000)).countByDeletedTrue();
+        verify(customerRepository, times(1)).findTombstoneIds(any(Instant.class), any(Pageable.class));
+        assertEquals("tombstone-compactor", compactionThread.get());
+    }
+}
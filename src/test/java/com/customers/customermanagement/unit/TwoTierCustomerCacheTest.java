@@ -0,0 +1,184 @@
+package com.customers.customermanagement.unit;
+
+import com.customers.customermanagement.cache.InMemorySharedCustomerCache;
+import com.customers.customermanagement.cache.InvalidationMessage;
+import com.customers.customermanagement.cache.LocalInvalidationTransport;
+import com.customers.customermanagement.cache.TwoTierCustomerCache;
+import com.customers.customermanagement.cache.VersionedCustomer;
+import com.customers.customermanagement.dto.CustomerDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierCustomerCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration MARKER_RETENTION = Duration.ofMinutes(1);
+
+    private MutableClock clock;
+    private TwoTierCustomerCache nodeA;
+    private TwoTierCustomerCache nodeB;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        // Two replicas sharing one shared tier and one invalidation channel
+        clock = new MutableClock();
+        InMemorySharedCustomerCache shared = new InMemorySharedCustomerCache(100, TTL, MARKER_RETENTION, clock);
+        LocalInvalidationTransport transport = new LocalInvalidationTransport();
+        nodeA = new TwoTierCustomerCache(shared, transport, 100, TTL, MARKER_RETENTION, clock);
+        nodeB = new TwoTierCustomerCache(shared, transport, 100, TTL, MARKER_RETENTION, clock);
+        id = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldFillNearCacheFromSharedTier() {
+        nodeA.put(version(0, "John"));
+
+        VersionedCustomer cached = nodeB.get(id);
+
+        assertNotNull(cached);
+        assertEquals("John", cached.getCustomer().getFirstName());
+    }
+
+    @Test
+    void shouldDropNearCopiesOnOtherReplicasAfterUpdate() {
+        nodeA.put(version(0, "John"));
+        nodeB.get(id);
+
+        nodeA.invalidate(id, 1);
+
+        assertNull(nodeA.get(id));
+        assertNull(nodeB.get(id));
+    }
+
+    @Test
+    void shouldRejectStaleReadCompletingAfterInvalidation() {
+        nodeA.invalidate(id, 1);
+
+        // A read of version 0 that started before the update finishes late
+        nodeB.put(version(0, "John"));
+
+        assertNull(nodeB.get(id));
+        nodeB.put(version(1, "Johnny"));
+        assertEquals("Johnny", nodeB.get(id).getCustomer().getFirstName());
+    }
+
+    @Test
+    void shouldIgnoreInvalidationsDeliveredOutOfOrder() {
+        nodeB.put(version(2, "Jonathan"));
+
+        // Invalidation for version 1 arrives after version 2 is already cached
+        nodeB.onInvalidation(new InvalidationMessage(nodeA.getNodeId(), id, 1));
+
+        assertEquals("Jonathan", nodeB.get(id).getCustomer().getFirstName());
+    }
+
+    @Test
+    void shouldNeverCacheDeletedCustomerAgain() {
+        nodeA.invalidate(id, Long.MAX_VALUE);
+
+        nodeB.put(version(5, "John"));
+
+        assertNull(nodeA.get(id));
+        assertNull(nodeB.get(id));
+    }
+
+    @Test
+    void shouldExpireEntriesInBothTiersAfterTtl() {
+        nodeA.put(version(0, "John"));
+        nodeB.get(id);
+
+        clock.advance(TTL);
+
+        assertNull(nodeA.get(id));
+        assertNull(nodeB.get(id));
+    }
+
+    @Test
+    void shouldKeepMarkersWhenEvictingForSpace() {
+        InMemorySharedCustomerCache shared = new InMemorySharedCustomerCache(10, TTL, MARKER_RETENTION, clock);
+        TwoTierCustomerCache node = new TwoTierCustomerCache(shared, new LocalInvalidationTransport(), 10, TTL, MARKER_RETENTION, clock);
+        node.invalidate(id, Long.MAX_VALUE);
+
+        // Fill both tiers well past their size limit
+        for (int i = 0; i < 50; i++) {
+            UUID other = UUID.randomUUID();
+            node.put(new VersionedCustomer(new CustomerDTO(other, "1234567890", "Other", null, "Doe", "other@example.com"), 0, clock.millis()));
+        }
+        node.put(version(5, "John"));
+
+        assertNull(node.get(id));
+    }
+
+    @Test
+    void shouldAcceptPutOnceMarkerRetentionHasPassed() {
+        nodeA.invalidate(id, 2);
+        clock.advance(MARKER_RETENTION);
+
+        nodeA.put(version(1, "John"));
+
+        assertEquals("John", nodeA.get(id).getCustomer().getFirstName());
+    }
+
+    @Test
+    void shouldStopReceivingInvalidationsAfterClose() {
+        nodeB.put(version(0, "John"));
+        nodeB.close();
+
+        nodeA.invalidate(id, 1);
+
+        // nodeB's near copy is untouched: a closed replica is no longer subscribed
+        assertNotNull(nodeB.get(id));
+    }
+
+    @Test
+    void shouldReleaseRegisteredChannelOnceEveryContextClosedIt() {
+        String channel = "channel-" + UUID.randomUUID();
+        LocalInvalidationTransport first = LocalInvalidationTransport.forChannel(channel);
+        LocalInvalidationTransport second = LocalInvalidationTransport.forChannel(channel);
+        assertSame(first, second);
+
+        first.close();
+        assertSame(first, LocalInvalidationTransport.forChannel(channel));
+        first.close();
+        second.close();
+
+        assertNotSame(first, LocalInvalidationTransport.forChannel(channel));
+    }
+
+    private VersionedCustomer version(long version, String firstName) {
+        return new VersionedCustomer(new CustomerDTO(id, "1234567890", firstName, null, "Doe", "john@example.com"), version, clock.millis());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}